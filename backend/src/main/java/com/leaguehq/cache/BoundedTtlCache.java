@@ -0,0 +1,216 @@
+package com.leaguehq.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Small in-process cache with a size bound, per-entry expiry and approximate LRU eviction.
+// Reads take no lock: a hit only stamps the entry's access time. When a put takes the cache over
+// its bound, one thread drops expired entries and then the least recently used down to 90% of
+// the bound, so the sort is paid once per tenth of the capacity rather than on every put.
+// Concurrent misses for the same key share a single load, so an expired hot entry
+// is reloaded once rather than once per waiting request.
+public class BoundedTtlCache<K, V> {
+
+    private static final long ACCESS_STAMP_RESOLUTION_NANOS = Duration.ofMillis(1).toNanos();
+
+    private final String name;
+    private final int maxSize;
+    private final long defaultTtlNanos;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    // Bumped on every invalidation so loads that started before it don't re-insert stale values
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public BoundedTtlCache(String name, int maxSize, Duration defaultTtl) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.defaultTtlNanos = defaultTtl.toNanos();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V getIfPresent(K key) {
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAtNanos - now > 0) {
+                // Hot entries are stamped at most once per resolution period, not on every hit
+                if (now - entry.lastAccessNanos > ACCESS_STAMP_RESOLUTION_NANOS) {
+                    entry.lastAccessNanos = now;
+                }
+                hits.increment();
+                return entry.value;
+            }
+            if (entries.remove(key, entry)) {
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public V getOrLoad(K key, Function<K, V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        long startGeneration = generation.get();
+        try {
+            V loaded = loader.apply(key);
+            if (loaded != null && generation.get() == startGeneration) {
+                put(key, loaded);
+            }
+            pending.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, defaultTtlNanos);
+    }
+
+    public void putUntil(K key, V value, long expiresAtEpochMillis) {
+        long ttlNanos = Duration.ofMillis(expiresAtEpochMillis - System.currentTimeMillis()).toNanos();
+        if (ttlNanos > 0) {
+            put(key, value, Math.min(ttlNanos, defaultTtlNanos));
+        }
+    }
+
+    private void put(K key, V value, long ttlNanos) {
+        long now = System.nanoTime();
+        entries.put(key, new Entry<>(value, now + ttlNanos, now));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    // Access stamps are copied before sorting, as hits keep updating them during the sort
+    private void evict() {
+        synchronized (evictionLock) {
+            if (entries.size() <= maxSize) {
+                return;
+            }
+            long now = System.nanoTime();
+            List<Candidate<K, V>> live = new ArrayList<>(entries.size());
+            for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+                Entry<V> entry = e.getValue();
+                if (entry.expiresAtNanos - now <= 0) {
+                    if (entries.remove(e.getKey(), entry)) {
+                        expirations.increment();
+                    }
+                } else {
+                    live.add(new Candidate<>(e.getKey(), entry, entry.lastAccessNanos - now));
+                }
+            }
+
+            int excess = live.size() - (maxSize - maxSize / 10);
+            if (excess <= 0) {
+                return;
+            }
+            live.sort(Comparator.comparingLong(Candidate::lastAccess));
+            for (int i = 0; i < excess; i++) {
+                Candidate<K, V> candidate = live.get(i);
+                if (entries.remove(candidate.key(), candidate.entry())) {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    public void invalidate(K key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    // Evicts now and again once the surrounding transaction commits, so a reader that
+    // repopulated the entry from pre-commit data in between doesn't keep serving it
+    public void invalidateAfterCommit(K key) {
+        invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(key);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(
+                name,
+                hits.sum(),
+                misses.sum(),
+                evictions.sum(),
+                expirations.sum(),
+                size(),
+                maxSize
+        );
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAtNanos;
+        volatile long lastAccessNanos;
+
+        Entry(V value, long expiresAtNanos, long lastAccessNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+
+    // Access stamp relative to the start of the sweep, so nanoTime wrap-around can't reorder it
+    private record Candidate<K, V>(K key, Entry<V> entry, long lastAccess) {
+    }
+}
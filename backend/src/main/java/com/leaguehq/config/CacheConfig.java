@@ -0,0 +1,85 @@
+package com.leaguehq.config;
+
+import com.leaguehq.cache.BoundedTtlCache;
+import com.leaguehq.dto.response.CompetitionResponse;
+import com.leaguehq.security.UserPrincipal;
+import com.leaguehq.service.CompetitionSchedule;
+import com.leaguehq.service.VersionedResponse;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Configuration
+public class CacheConfig {
+
+    // Public competition detail, keyed by competition id. Share links point here,
+    // so a short TTL absorbs bursts while write paths evict explicitly.
+    @Bean
+    public BoundedTtlCache<UUID, VersionedResponse<CompetitionResponse>> competitionDetailCache(
+            @Value("${cache.competition-detail.max-size:10000}") int maxSize,
+            @Value("${cache.competition-detail.ttl-seconds:60}") long ttlSeconds) {
+        return new BoundedTtlCache<>("competition-detail", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // Share tokens never change once issued, so mappings can live long
+    @Bean
+    public BoundedTtlCache<String, UUID> shareTokenCache(
+            @Value("${cache.share-token.max-size:50000}") int maxSize,
+            @Value("${cache.share-token.ttl-seconds:3600}") long ttlSeconds) {
+        return new BoundedTtlCache<>("share-token", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // Well-formed tokens that passed the bloom filter but don't exist (false positives)
+    @Bean
+    public BoundedTtlCache<String, Boolean> unknownShareTokenCache(
+            @Value("${cache.share-token.negative-max-size:100000}") int maxSize,
+            @Value("${cache.share-token.negative-ttl-seconds:300}") long ttlSeconds) {
+        return new BoundedTtlCache<>("share-token-negative", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // Stripe event ids processed by this instance, checked before any Stripe call or DB write
+    @Bean
+    public BoundedTtlCache<String, Boolean> processedStripeEventCache(
+            @Value("${cache.stripe-events.max-size:20000}") int maxSize,
+            @Value("${cache.stripe-events.ttl-seconds:86400}") long ttlSeconds) {
+        return new BoundedTtlCache<>("stripe-events-processed", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // Verified JWTs; lets repeat requests with the same token skip HMAC verification
+    @Bean
+    public BoundedTtlCache<String, Claims> verifiedTokenCache(
+            @Value("${cache.jwt.max-size:50000}") int maxSize,
+            @Value("${jwt.expiration}") long jwtExpirationMillis) {
+        return new BoundedTtlCache<>("jwt-verified", maxSize, Duration.ofMillis(jwtExpirationMillis));
+    }
+
+    // Database-backed principals; kept short because role and payout changes must show up quickly
+    @Bean
+    public BoundedTtlCache<UUID, UserPrincipal> principalCache(
+            @Value("${cache.principal.max-size:10000}") int maxSize,
+            @Value("${cache.principal.ttl-seconds:30}") long ttlSeconds) {
+        return new BoundedTtlCache<>("principal", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // Sessions revoked by logout or refresh-token reuse; an entry only has to outlive the
+    // access tokens issued under that session
+    @Bean
+    public BoundedTtlCache<UUID, Boolean> revokedSessionCache(
+            @Value("${cache.revoked-session.max-size:100000}") int maxSize,
+            @Value("${jwt.expiration}") long jwtExpirationMillis) {
+        return new BoundedTtlCache<>("revoked-session", maxSize, Duration.ofMillis(jwtExpirationMillis));
+    }
+
+    // Per-competition clash index; kept current by write paths, the TTL only bounds staleness
+    // from writes made by other instances
+    @Bean
+    public BoundedTtlCache<UUID, CompetitionSchedule> scheduleIndexCache(
+            @Value("${cache.schedule-index.max-size:1000}") int maxSize,
+            @Value("${cache.schedule-index.ttl-seconds:600}") long ttlSeconds) {
+        return new BoundedTtlCache<>("schedule-index", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+}
@@ -0,0 +1,41 @@
+package com.leaguehq.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // Sized by the worker's claim logic, so the queue never holds more than one batch
+    @Bean
+    public ThreadPoolTaskExecutor stripeWebhookExecutor(
+            @Value("${stripe.webhook-worker.threads:4}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads);
+        executor.setThreadNamePrefix("stripe-webhook-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // Writes SSE frames for live subscribers. Writes are non-blocking, so a slow client never
+    // holds a thread; each subscriber has at most one queued drain task, so the queue is
+    // bounded by the subscriber cap.
+    @Bean
+    public ThreadPoolTaskExecutor liveUpdateExecutor(
+            @Value("${live.writer-threads:4}") int threads,
+            @Value("${live.max-subscribers:10000}") int maxSubscribers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(maxSubscribers);
+        executor.setThreadNamePrefix("live-update-");
+        return executor;
+    }
+}
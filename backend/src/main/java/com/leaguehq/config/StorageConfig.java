@@ -0,0 +1,40 @@
+package com.leaguehq.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+
+@Configuration
+public class StorageConfig {
+
+    // Explicit keys when configured, otherwise the SDK's default chain (env, profile, IAM role).
+    // A custom endpoint means R2 or another S3-compatible store, which expects path-style URLs.
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "photos.storage", havingValue = "s3", matchIfMissing = true)
+    public S3Client s3Client(@Value("${aws.s3.region}") String region,
+                             @Value("${aws.s3.access-key-id:}") String accessKeyId,
+                             @Value("${aws.s3.secret-access-key:}") String secretAccessKey,
+                             @Value("${aws.s3.endpoint:}") String endpoint) {
+        AwsCredentialsProvider credentials = accessKeyId.isBlank()
+                ? DefaultCredentialsProvider.create()
+                : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKeyId, secretAccessKey));
+
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials);
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+}
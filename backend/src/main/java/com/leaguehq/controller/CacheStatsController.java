@@ -0,0 +1,30 @@
+package com.leaguehq.controller;
+
+import com.leaguehq.cache.BoundedTtlCache;
+import com.leaguehq.cache.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('PLATFORM_OWNER')")
+public class CacheStatsController {
+
+    private final List<BoundedTtlCache<?, ?>> caches;
+
+    @GetMapping
+    public ResponseEntity<List<CacheStats>> getCacheStats() {
+        List<CacheStats> stats = caches.stream()
+                .map(BoundedTtlCache::stats)
+                .toList();
+
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -1,16 +1,22 @@
 package com.leaguehq.controller;
 
 import com.leaguehq.dto.request.CreateCompetitionRequest;
+import com.leaguehq.dto.request.PublishedCompetitionsRequest;
+import com.leaguehq.dto.response.CompetitionPageResponse;
 import com.leaguehq.dto.response.CompetitionResponse;
 import com.leaguehq.security.UserPrincipal;
 import com.leaguehq.service.CompetitionService;
+import com.leaguehq.service.ResourceVersion;
+import com.leaguehq.service.VersionedResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -50,21 +56,43 @@ public class CompetitionController {
     }
 
     @GetMapping("/published")
-    public ResponseEntity<List<CompetitionResponse>> getPublishedCompetitions() {
+    public ResponseEntity<CompetitionPageResponse> getPublishedCompetitions(
+            @Valid PublishedCompetitionsRequest request) {
 
         log.debug("Get published competitions request");
 
-        List<CompetitionResponse> competitions = competitionService.findPublishedCompetitions();
+        CompetitionPageResponse page = competitionService.findPublishedCompetitions(request);
 
-        return ResponseEntity.ok(competitions);
+        return ResponseEntity.ok(page);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<CompetitionResponse> getCompetition(@PathVariable UUID id) {
+    public ResponseEntity<CompetitionResponse> getCompetition(@PathVariable UUID id, WebRequest webRequest) {
 
         log.debug("Get competition request: {}", id);
 
-        CompetitionResponse response = competitionService.findById(id);
+        // Validators come from the cached entry, not the database, so a 304 always refers to the
+        // body this instance would otherwise send
+        VersionedResponse<CompetitionResponse> competition = competitionService.findVersionedById(id);
+        ResourceVersion version = competition.version();
+        if (webRequest.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            // 304 already written by checkNotModified
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(version.etag())
+                .lastModified(version.lastModified())
+                .body(competition.body());
+    }
+
+    @GetMapping("/share/{token}")
+    public ResponseEntity<CompetitionResponse> getCompetitionByShareToken(@PathVariable String token) {
+
+        log.debug("Get competition by share token request");
+
+        CompetitionResponse response = competitionService.findByShareToken(token);
 
         return ResponseEntity.ok(response);
     }
@@ -83,12 +111,22 @@ public class CompetitionController {
 
     @GetMapping("/{id}/teams")
     public ResponseEntity<List<com.leaguehq.dto.response.TeamResponse>> getCompetitionTeams(
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            WebRequest webRequest) {
 
         log.debug("Get teams for competition: {}", id);
 
+        ResourceVersion version = competitionService.getCompetitionTeamsVersion(id);
+        if (webRequest.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            return null;
+        }
+
         List<com.leaguehq.dto.response.TeamResponse> teams = competitionService.getTeamsByCompetitionId(id);
 
-        return ResponseEntity.ok(teams);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(version.etag())
+                .lastModified(version.lastModified())
+                .body(teams);
     }
 }
@@ -0,0 +1,35 @@
+package com.leaguehq.controller;
+
+import com.leaguehq.dto.request.BatchResultRequest;
+import com.leaguehq.dto.response.BatchResultResponse;
+import com.leaguehq.security.UserPrincipal;
+import com.leaguehq.service.MatchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/competitions/{competitionId}")
+@RequiredArgsConstructor
+@Slf4j
+public class CompetitionResultController {
+
+    private final MatchService matchService;
+
+    @PostMapping("/results:batch")
+    public ResponseEntity<BatchResultResponse> recordResults(
+            @PathVariable UUID competitionId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody BatchResultRequest request) {
+
+        log.info("Batch results request: competitionId={}, userId={}, results={}",
+                competitionId, userPrincipal.getId(), request.getResults().size());
+
+        return ResponseEntity.ok(matchService.recordResults(competitionId, userPrincipal.getId(), request));
+    }
+}
@@ -0,0 +1,36 @@
+package com.leaguehq.controller;
+
+import com.leaguehq.dto.request.GenerateFixturesRequest;
+import com.leaguehq.dto.response.FixtureGenerationResponse;
+import com.leaguehq.security.UserPrincipal;
+import com.leaguehq.service.FixtureService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/competitions/{competitionId}/fixtures")
+@RequiredArgsConstructor
+@Slf4j
+public class FixtureController {
+
+    private final FixtureService fixtureService;
+
+    @PostMapping
+    public ResponseEntity<FixtureGenerationResponse> generateFixtures(
+            @PathVariable UUID competitionId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody GenerateFixturesRequest request) {
+
+        log.info("Generate fixtures request: competitionId={}, userId={}", competitionId, userPrincipal.getId());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(fixtureService.generateFixtures(competitionId, userPrincipal.getId(), request));
+    }
+}
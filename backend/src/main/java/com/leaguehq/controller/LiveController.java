@@ -0,0 +1,31 @@
+package com.leaguehq.controller;
+
+import com.leaguehq.service.LiveUpdateService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/competitions/{competitionId}/live")
+@RequiredArgsConstructor
+public class LiveController {
+
+    private final LiveUpdateService liveUpdateService;
+
+    // Server-Sent Events: "match-result" and "standings-delta" as results are entered. The
+    // service takes over the response as a non-blocking async stream.
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void subscribe(@PathVariable UUID competitionId,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        liveUpdateService.subscribe(competitionId, request, response);
+    }
+}
@@ -0,0 +1,66 @@
+package com.leaguehq.controller;
+
+import com.leaguehq.dto.request.MatchResultRequest;
+import com.leaguehq.dto.request.RescheduleMatchRequest;
+import com.leaguehq.dto.response.MatchResponse;
+import com.leaguehq.dto.response.ScheduleValidationResponse;
+import com.leaguehq.security.UserPrincipal;
+import com.leaguehq.service.MatchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/matches")
+@RequiredArgsConstructor
+@Slf4j
+public class MatchController {
+
+    private final MatchService matchService;
+
+    @PutMapping("/{matchId}/result")
+    public ResponseEntity<MatchResponse> recordResult(
+            @PathVariable UUID matchId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody MatchResultRequest request) {
+
+        log.info("Record result request: matchId={}, userId={}", matchId, userPrincipal.getId());
+
+        return ResponseEntity.ok(matchService.recordResult(matchId, userPrincipal.getId(), request));
+    }
+
+    @DeleteMapping("/{matchId}/result")
+    public ResponseEntity<MatchResponse> voidResult(
+            @PathVariable UUID matchId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        log.info("Void result request: matchId={}, userId={}", matchId, userPrincipal.getId());
+
+        return ResponseEntity.ok(matchService.voidResult(matchId, userPrincipal.getId()));
+    }
+
+    @PostMapping("/{matchId}/schedule/validate")
+    public ResponseEntity<ScheduleValidationResponse> validateReschedule(
+            @PathVariable UUID matchId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody RescheduleMatchRequest request) {
+
+        return ResponseEntity.ok(matchService.validateReschedule(matchId, userPrincipal.getId(), request));
+    }
+
+    @PutMapping("/{matchId}/schedule")
+    public ResponseEntity<MatchResponse> rescheduleMatch(
+            @PathVariable UUID matchId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody RescheduleMatchRequest request) {
+
+        log.info("Reschedule match request: matchId={}, userId={}", matchId, userPrincipal.getId());
+
+        return ResponseEntity.ok(matchService.rescheduleMatch(matchId, userPrincipal.getId(), request));
+    }
+}
@@ -0,0 +1,62 @@
+package com.leaguehq.controller;
+
+import com.leaguehq.dto.request.PlayerRequest;
+import com.leaguehq.dto.response.PlayerPhotoResponse;
+import com.leaguehq.dto.response.PlayerResponse;
+import com.leaguehq.security.UserPrincipal;
+import com.leaguehq.service.PlayerPhotoService;
+import com.leaguehq.service.RosterService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/players")
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerController {
+
+    private final PlayerPhotoService playerPhotoService;
+    private final RosterService rosterService;
+
+    @PutMapping("/{playerId}")
+    public ResponseEntity<PlayerResponse> updatePlayer(
+            @PathVariable UUID playerId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody PlayerRequest request) {
+
+        log.info("Update player request: playerId={}, userId={}", playerId, userPrincipal.getId());
+
+        return ResponseEntity.ok(rosterService.updatePlayer(playerId, userPrincipal.getId(), request));
+    }
+
+    @DeleteMapping("/{playerId}")
+    public ResponseEntity<Void> deletePlayer(
+            @PathVariable UUID playerId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        log.info("Delete player request: playerId={}, userId={}", playerId, userPrincipal.getId());
+
+        rosterService.deletePlayer(playerId, userPrincipal.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping(value = "/{playerId}/photo", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public CompletableFuture<ResponseEntity<PlayerPhotoResponse>> uploadPhoto(
+            @PathVariable UUID playerId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam("file") MultipartFile file) {
+
+        log.info("Upload player photo request: playerId={}, userId={}, bytes={}", playerId, userPrincipal.getId(), file.getSize());
+
+        return playerPhotoService.uploadPhoto(playerId, userPrincipal.getId(), file).thenApply(ResponseEntity::ok);
+    }
+}
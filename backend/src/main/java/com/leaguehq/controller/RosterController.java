@@ -0,0 +1,86 @@
+package com.leaguehq.controller;
+
+import com.leaguehq.dto.request.BatchDeletePlayersRequest;
+import com.leaguehq.dto.request.BatchPlayerRequest;
+import com.leaguehq.dto.request.PlayerRequest;
+import com.leaguehq.dto.response.PlayerResponse;
+import com.leaguehq.security.UserPrincipal;
+import com.leaguehq.service.RosterService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/teams/{teamId}")
+@RequiredArgsConstructor
+@Slf4j
+public class RosterController {
+
+    private final RosterService rosterService;
+
+    @GetMapping("/players")
+    public ResponseEntity<List<PlayerResponse>> getRoster(
+            @PathVariable UUID teamId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        log.info("Get roster request: teamId={}, userId={}", teamId, userPrincipal.getId());
+
+        return ResponseEntity.ok(rosterService.getRoster(teamId, userPrincipal.getId()));
+    }
+
+    @PostMapping("/players")
+    public ResponseEntity<PlayerResponse> addPlayer(
+            @PathVariable UUID teamId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody PlayerRequest request) {
+
+        log.info("Add player request: teamId={}, userId={}", teamId, userPrincipal.getId());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(rosterService.addPlayer(teamId, userPrincipal.getId(), request));
+    }
+
+    @PostMapping(value = "/players:batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<PlayerResponse>> addPlayers(
+            @PathVariable UUID teamId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody BatchPlayerRequest request) {
+
+        log.info("Batch add players request: teamId={}, userId={}, players={}",
+                teamId, userPrincipal.getId(), request.getPlayers().size());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(rosterService.addPlayers(teamId, userPrincipal.getId(), request.getPlayers()));
+    }
+
+    @PostMapping(value = "/players:batch", consumes = "text/csv")
+    public ResponseEntity<List<PlayerResponse>> importPlayersCsv(
+            @PathVariable UUID teamId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestBody String csv) {
+
+        log.info("CSV roster import request: teamId={}, userId={}, bytes={}", teamId, userPrincipal.getId(), csv.length());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(rosterService.importCsv(teamId, userPrincipal.getId(), csv));
+    }
+
+    @PostMapping("/players:batchDelete")
+    public ResponseEntity<Void> deletePlayers(
+            @PathVariable UUID teamId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody BatchDeletePlayersRequest request) {
+
+        log.info("Batch delete players request: teamId={}, userId={}, players={}",
+                teamId, userPrincipal.getId(), request.getPlayerIds().size());
+
+        rosterService.deletePlayers(teamId, userPrincipal.getId(), request.getPlayerIds());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.leaguehq.controller;
+
+import com.leaguehq.dto.response.StandingResponse;
+import com.leaguehq.dto.response.StandingsConsistencyResponse;
+import com.leaguehq.security.UserPrincipal;
+import com.leaguehq.service.StandingsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/competitions/{competitionId}/standings")
+@RequiredArgsConstructor
+@Slf4j
+public class StandingsController {
+
+    private final StandingsService standingsService;
+
+    @GetMapping
+    public ResponseEntity<List<StandingResponse>> getStandings(@PathVariable UUID competitionId) {
+        return ResponseEntity.ok(standingsService.getStandings(competitionId));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<List<StandingResponse>> rebuildStandings(
+            @PathVariable UUID competitionId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        log.info("Rebuild standings request: competitionId={}, userId={}", competitionId, userPrincipal.getId());
+
+        return ResponseEntity.ok(standingsService.rebuildStandings(
+                competitionId, userPrincipal.getId(), userPrincipal.getRole()));
+    }
+
+    @GetMapping("/consistency")
+    public ResponseEntity<StandingsConsistencyResponse> checkConsistency(
+            @PathVariable UUID competitionId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        return ResponseEntity.ok(standingsService.checkConsistency(
+                competitionId, userPrincipal.getId(), userPrincipal.getRole()));
+    }
+}
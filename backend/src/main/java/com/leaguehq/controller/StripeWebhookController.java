@@ -1,10 +1,10 @@
 package com.leaguehq.controller;
 
 import com.leaguehq.service.StripeService;
+import com.leaguehq.service.StripeWebhookInbox;
+import com.leaguehq.service.StripeWebhookProcessor;
 import com.stripe.exception.SignatureVerificationException;
 import com.stripe.model.Event;
-import com.stripe.model.EventDataObjectDeserializer;
-import com.stripe.model.StripeObject;
 import com.stripe.net.Webhook;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,14 +19,16 @@ import org.springframework.web.bind.annotation.*;
 public class StripeWebhookController {
 
     private final StripeService stripeService;
+    private final StripeWebhookInbox webhookInbox;
+    private final StripeWebhookProcessor webhookProcessor;
 
+    // Verifies and stores the event, then acks. Processing happens in StripeWebhookWorker so
+    // slow Stripe API calls or handler failures never hold up (or lose) a delivery.
     @PostMapping
     public ResponseEntity<String> handleWebhook(
             @RequestBody String payload,
             @RequestHeader("Stripe-Signature") String sigHeader) {
 
-        log.info("Received Stripe webhook");
-
         Event event;
 
         try {
@@ -44,136 +46,27 @@ public class StripeWebhookController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid payload");
         }
 
-        log.info("Webhook event: type={}, id={}", event.getType(), event.getId());
-
-        // Handle the event
-        try {
-            switch (event.getType()) {
-                case "account.updated":
-                    handleAccountUpdated(event);
-                    break;
-
-                case "checkout.session.completed":
-                    handleCheckoutSessionCompleted(event);
-                    break;
-
-                case "invoice.payment_succeeded":
-                    handleInvoicePaymentSucceeded(event);
-                    break;
-
-                case "invoice.payment_failed":
-                    handleInvoicePaymentFailed(event);
-                    break;
-
-                default:
-                    log.info("Unhandled event type: {}", event.getType());
-            }
-
-            return ResponseEntity.ok("Webhook processed");
-
-        } catch (Exception e) {
-            log.error("Error processing webhook: type={}, id={}, error={}",
-                    event.getType(), event.getId(), e.getMessage(), e);
-            // Return 200 to avoid Stripe retries for application errors
-            return ResponseEntity.ok("Webhook received but processing failed");
-        }
-    }
-
-    private void handleAccountUpdated(Event event) {
-        EventDataObjectDeserializer dataObjectDeserializer = event.getDataObjectDeserializer();
-        String accountId = null;
-
-        // Try to deserialize the object first
-        if (dataObjectDeserializer.getObject().isPresent()) {
-            StripeObject stripeObject = dataObjectDeserializer.getObject().get();
-            if (stripeObject instanceof com.stripe.model.Account) {
-                com.stripe.model.Account account = (com.stripe.model.Account) stripeObject;
-                accountId = account.getId();
-                log.info("Successfully deserialized account: accountId={}", accountId);
-            }
-        }
-
-        // If deserialization failed, extract from event data
-        if (accountId == null && event.getData() != null && event.getData().getObject() != null) {
-            try {
-                StripeObject obj = event.getData().getObject();
-                if (obj instanceof com.stripe.model.Account) {
-                    accountId = ((com.stripe.model.Account) obj).getId();
-                    log.info("Extracted account ID from event.getData(): {}", accountId);
-                }
-            } catch (Exception e) {
-                log.error("Failed to extract account from event.getData(): {}", e.getMessage());
-            }
+        if (!webhookProcessor.handles(event.getType())) {
+            log.debug("Ignoring unhandled webhook event: type={}, id={}", event.getType(), event.getId());
+            return ResponseEntity.ok("Webhook ignored");
         }
 
-        if (accountId != null) {
-            log.info("Processing account.updated: accountId={}", accountId);
-            stripeService.handleAccountUpdated(accountId);
-        } else {
-            log.error("Unable to extract account ID from account.updated event");
+        // Redelivery of an event this instance just handled; skip the inbox round-trip
+        if (webhookProcessor.isRecentlyProcessed(event.getId())) {
+            log.info("Webhook already processed: type={}, id={}", event.getType(), event.getId());
+            return ResponseEntity.ok("Webhook already processed");
         }
-    }
 
-    private void handleCheckoutSessionCompleted(Event event) {
-        EventDataObjectDeserializer dataObjectDeserializer = event.getDataObjectDeserializer();
-        String sessionId = null;
-
-        if (dataObjectDeserializer.getObject().isPresent()) {
-            StripeObject stripeObject = dataObjectDeserializer.getObject().get();
-            if (stripeObject instanceof com.stripe.model.checkout.Session) {
-                com.stripe.model.checkout.Session session = (com.stripe.model.checkout.Session) stripeObject;
-                sessionId = session.getId();
-                log.info("Successfully deserialized checkout session: sessionId={}", sessionId);
-            }
-        }
-
-        if (sessionId != null) {
-            log.info("Processing checkout.session.completed: sessionId={}", sessionId);
-            stripeService.handleCheckoutSessionCompleted(sessionId);
-        } else {
-            log.error("Unable to extract session ID from checkout.session.completed event");
-        }
-    }
-
-    private void handleInvoicePaymentSucceeded(Event event) {
-        EventDataObjectDeserializer dataObjectDeserializer = event.getDataObjectDeserializer();
-        String invoiceId = null;
-
-        if (dataObjectDeserializer.getObject().isPresent()) {
-            StripeObject stripeObject = dataObjectDeserializer.getObject().get();
-            if (stripeObject instanceof com.stripe.model.Invoice) {
-                com.stripe.model.Invoice invoice = (com.stripe.model.Invoice) stripeObject;
-                invoiceId = invoice.getId();
-                log.info("Successfully deserialized invoice: invoiceId={}", invoiceId);
-            }
-        }
-
-        if (invoiceId != null) {
-            log.info("Processing invoice.payment_succeeded: invoiceId={}", invoiceId);
-            stripeService.handleInvoicePaymentSucceeded(invoiceId);
-        } else {
-            log.error("Unable to extract invoice ID from invoice.payment_succeeded event");
-        }
-    }
-
-    private void handleInvoicePaymentFailed(Event event) {
-        EventDataObjectDeserializer dataObjectDeserializer = event.getDataObjectDeserializer();
-        String invoiceId = null;
-
-        if (dataObjectDeserializer.getObject().isPresent()) {
-            StripeObject stripeObject = dataObjectDeserializer.getObject().get();
-            if (stripeObject instanceof com.stripe.model.Invoice) {
-                com.stripe.model.Invoice invoice = (com.stripe.model.Invoice) stripeObject;
-                invoiceId = invoice.getId();
-                log.info("Successfully deserialized invoice: invoiceId={}", invoiceId);
-            }
+        try {
+            webhookInbox.enqueue(event.getId(), event.getType(), payload);
+        } catch (Exception e) {
+            // Not stored, so let Stripe redeliver rather than acking a lost event
+            log.error("Failed to store webhook: type={}, id={}, error={}",
+                    event.getType(), event.getId(), e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Webhook not stored");
         }
 
-        if (invoiceId != null) {
-            log.info("Processing invoice.payment_failed: invoiceId={}", invoiceId);
-            stripeService.handleInvoicePaymentFailed(invoiceId);
-        } else {
-            log.error("Unable to extract invoice ID from invoice.payment_failed event");
-        }
+        log.info("Webhook queued: type={}, id={}", event.getType(), event.getId());
+        return ResponseEntity.ok("Webhook received");
     }
 }
@@ -5,16 +5,21 @@ import com.leaguehq.dto.response.CheckoutSessionResponse;
 import com.leaguehq.dto.response.TeamResponse;
 import com.leaguehq.model.Team;
 import com.leaguehq.security.UserPrincipal;
+import com.leaguehq.service.ResourceVersion;
 import com.leaguehq.service.TeamService;
+import com.leaguehq.service.VersionedResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -47,25 +52,47 @@ public class TeamController {
 
     @GetMapping("/my")
     public ResponseEntity<List<TeamResponse>> getMyTeams(
-            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            WebRequest webRequest) {
 
         log.info("Get my teams request from user: {}", userPrincipal.getId());
 
+        ResourceVersion version = teamService.getMyTeamsVersion(userPrincipal.getId());
+        if (webRequest.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            // 304 already written by checkNotModified
+            return null;
+        }
+
         List<TeamResponse> teams = teamService.getMyTeams(userPrincipal.getId());
 
-        return ResponseEntity.ok(teams);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(version.etag())
+                .lastModified(version.lastModified())
+                .body(teams);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<TeamResponse> getTeamById(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            WebRequest webRequest) {
 
         log.info("Get team request: teamId={}, userId={}", id, userPrincipal.getId());
 
-        TeamResponse team = teamService.getTeamById(id, userPrincipal.getId());
+        Optional<ResourceVersion> version = teamService.getTeamVersion(id, userPrincipal.getId());
+        if (version.isPresent() && webRequest.checkNotModified(version.get().etag(), version.get().lastModifiedMillis())) {
+            return null;
+        }
+
+        // Validators for the body come from its own load, not the check above, which may be older
+        VersionedResponse<TeamResponse> team = teamService.getVersionedTeamById(id, userPrincipal.getId());
 
-        return ResponseEntity.ok(team);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(team.version().etag())
+                .lastModified(team.version().lastModified())
+                .body(team.body());
     }
 
     @PostMapping("/{id}/update-payment")
@@ -0,0 +1,16 @@
+package com.leaguehq.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BatchDeletePlayersRequest {
+
+    @NotEmpty(message = "At least one player id is required")
+    @Size(max = 100, message = "At most 100 players per batch")
+    private List<UUID> playerIds;
+}
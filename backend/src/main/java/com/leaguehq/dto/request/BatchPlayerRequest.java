@@ -0,0 +1,17 @@
+package com.leaguehq.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchPlayerRequest {
+
+    @Valid
+    @NotEmpty(message = "At least one player is required")
+    @Size(max = 100, message = "At most 100 players per batch")
+    private List<PlayerRequest> players;
+}
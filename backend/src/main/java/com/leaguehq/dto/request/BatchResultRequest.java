@@ -0,0 +1,37 @@
+package com.leaguehq.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BatchResultRequest {
+
+    @Valid
+    @NotEmpty(message = "At least one result is required")
+    @Size(max = 500, message = "At most 500 results per batch")
+    private List<ResultEntry> results;
+
+    @Data
+    public static class ResultEntry {
+        @NotNull(message = "Match id is required")
+        private UUID matchId;
+
+        @NotNull(message = "Home score is required")
+        @Min(value = 0, message = "Scores cannot be negative")
+        @Max(value = 999, message = "Score is too large")
+        private Integer homeScore;
+
+        @NotNull(message = "Away score is required")
+        @Min(value = 0, message = "Scores cannot be negative")
+        @Max(value = 999, message = "Score is too large")
+        private Integer awayScore;
+    }
+}
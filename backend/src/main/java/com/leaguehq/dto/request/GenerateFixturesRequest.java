@@ -0,0 +1,32 @@
+package com.leaguehq.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+public class GenerateFixturesRequest {
+
+    // Days of the week fixtures may be played on (default: Saturday and Sunday)
+    private Set<DayOfWeek> matchDays;
+
+    // Kickoff times used on each match day at every venue (default: 10:00)
+    private List<LocalTime> kickoffTimes;
+
+    // Full days a team must rest between fixtures (default: 1)
+    @Min(value = 0, message = "Rest days cannot be negative")
+    @Max(value = 30, message = "Rest days cannot exceed 30")
+    private Integer minRestDays;
+
+    // Knockout only: team ids from top seed down (default: registration order)
+    private List<UUID> seedOrder;
+
+    // Drop existing fixtures first; refused once any match has a result
+    private Boolean replaceExisting;
+}
@@ -0,0 +1,20 @@
+package com.leaguehq.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class MatchResultRequest {
+
+    @NotNull(message = "Home score is required")
+    @Min(value = 0, message = "Scores cannot be negative")
+    @Max(value = 999, message = "Score is too large")
+    private Integer homeScore;
+
+    @NotNull(message = "Away score is required")
+    @Min(value = 0, message = "Scores cannot be negative")
+    @Max(value = 999, message = "Score is too large")
+    private Integer awayScore;
+}
@@ -0,0 +1,22 @@
+package com.leaguehq.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class PlayerRequest {
+
+    @NotBlank(message = "Full name is required")
+    @Size(max = 255, message = "Full name must be at most 255 characters")
+    private String fullName;
+
+    @Min(value = 0, message = "Jersey number must be between 0 and 99")
+    @Max(value = 99, message = "Jersey number must be between 0 and 99")
+    private Integer jerseyNumber;
+
+    @Size(max = 50, message = "Position must be at most 50 characters")
+    private String position;
+}
@@ -0,0 +1,40 @@
+package com.leaguehq.dto.request;
+
+import com.leaguehq.model.Competition;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+public class PublishedCompetitionsRequest {
+
+    public static final int DEFAULT_LIMIT = 20;
+
+    // Opaque value returned as nextCursor by the previous page
+    private String cursor;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 100, message = "Limit must not exceed 100")
+    private Integer limit = DEFAULT_LIMIT;
+
+    private Competition.CompetitionFormat format;
+
+    private Competition.TeamSize teamSize;
+
+    // Inclusive window on the competition start date
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startTo;
+
+    @Min(value = 0, message = "Minimum fee must be non-negative")
+    private BigDecimal minFee;
+
+    @Min(value = 0, message = "Maximum fee must be non-negative")
+    private BigDecimal maxFee;
+}
@@ -0,0 +1,21 @@
+package com.leaguehq.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Data
+public class RescheduleMatchRequest {
+
+    @NotNull(message = "Match date is required")
+    private LocalDate matchDate;
+
+    // Null means time to be confirmed; the match then books its whole day
+    private LocalTime matchTime;
+
+    // Null means no venue assigned
+    private UUID venueId;
+}
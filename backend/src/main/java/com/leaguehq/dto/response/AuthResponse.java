@@ -13,10 +13,12 @@ public class AuthResponse {
 
     private String token;
     private String type = "Bearer";
+    private String refreshToken;
     private UserResponse user;
 
-    public AuthResponse(String token, UserResponse user) {
+    public AuthResponse(String token, String refreshToken, UserResponse user) {
         this.token = token;
+        this.refreshToken = refreshToken;
         this.user = user;
         this.type = "Bearer";
     }
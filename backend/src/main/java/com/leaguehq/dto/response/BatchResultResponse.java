@@ -0,0 +1,27 @@
+package com.leaguehq.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class BatchResultResponse {
+
+    private UUID competitionId;
+    private Integer applied;
+    private Integer rejected;
+    private List<Outcome> outcomes;
+
+    @Data
+    @Builder
+    public static class Outcome {
+        private UUID matchId;
+        // RECORDED, CORRECTED, UNCHANGED or REJECTED
+        private String outcome;
+        private String message;
+        private MatchResponse match;
+    }
+}
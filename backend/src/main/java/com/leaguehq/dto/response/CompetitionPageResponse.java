@@ -0,0 +1,18 @@
+package com.leaguehq.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CompetitionPageResponse {
+
+    private List<CompetitionResponse> items;
+
+    // Pass back as ?cursor= to fetch the next page; null when there are no more results
+    private String nextCursor;
+
+    private boolean hasMore;
+}
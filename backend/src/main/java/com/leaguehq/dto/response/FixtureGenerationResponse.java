@@ -0,0 +1,23 @@
+package com.leaguehq.dto.response;
+
+import com.leaguehq.model.Competition;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class FixtureGenerationResponse {
+
+    private UUID competitionId;
+    private Competition.CompetitionFormat format;
+    private Integer rounds;
+    private Integer matchesCreated;
+    private LocalDate firstMatchDate;
+    private LocalDate lastMatchDate;
+    // Knockout: teams advancing to the second round without playing
+    private List<UUID> byeTeamIds;
+}
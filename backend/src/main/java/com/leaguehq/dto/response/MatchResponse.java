@@ -0,0 +1,44 @@
+package com.leaguehq.dto.response;
+
+import com.leaguehq.model.Match;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Data
+@Builder
+public class MatchResponse {
+
+    private UUID id;
+    private UUID competitionId;
+    private UUID homeTeamId;
+    private UUID awayTeamId;
+    private LocalDate matchDate;
+    private LocalTime matchTime;
+    private UUID venueId;
+    private Integer homeScore;
+    private Integer awayScore;
+    private Match.MatchStatus status;
+    private Instant resultEnteredAt;
+
+    // Uses only foreign-key ids, so lazy associations are not initialized
+    public static MatchResponse fromEntity(Match match) {
+        return MatchResponse.builder()
+                .id(match.getId())
+                .competitionId(match.getCompetition().getId())
+                .homeTeamId(match.getHomeTeam().getId())
+                .awayTeamId(match.getAwayTeam().getId())
+                .matchDate(match.getMatchDate())
+                .matchTime(match.getMatchTime())
+                .venueId(match.getVenue() != null ? match.getVenue().getId() : null)
+                .homeScore(match.getHomeScore())
+                .awayScore(match.getAwayScore())
+                .status(match.getStatus())
+                .resultEnteredAt(match.getResultEnteredAt())
+                .build();
+    }
+}
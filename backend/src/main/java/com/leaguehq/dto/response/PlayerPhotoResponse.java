@@ -0,0 +1,37 @@
+package com.leaguehq.dto.response;
+
+import com.leaguehq.model.Player;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+public class PlayerPhotoResponse {
+
+    private UUID playerId;
+    private String photoUrl;
+    private Integer photoSizeBytes;
+    // Dimensions of the full variant; only known when the upload was decoded
+    private Integer width;
+    private Integer height;
+    private String photoHash;
+    private Map<String, String> photoVariants;
+    // True when the upload matched an already stored photo and nothing was re-encoded
+    private boolean deduplicated;
+    private Instant photoUploadedAt;
+
+    public static PlayerPhotoResponse fromEntity(Player player) {
+        return PlayerPhotoResponse.builder()
+                .playerId(player.getId())
+                .photoUrl(player.getPhotoUrl())
+                .photoSizeBytes(player.getPhotoSizeBytes())
+                .photoHash(player.getPhotoHash())
+                .photoVariants(player.getPhotoVariants())
+                .photoUploadedAt(player.getPhotoUploadedAt())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.leaguehq.dto.response;
+
+import com.leaguehq.model.Player;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+public class PlayerResponse {
+
+    private UUID id;
+    private UUID teamId;
+    private String fullName;
+    private Integer jerseyNumber;
+    private String position;
+
+    // Roster grids use the thumbnail; the full variant is only fetched for the player's own view
+    private String photoUrl;
+    private String photoThumbUrl;
+    private Map<String, String> photoVariants;
+
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    public static PlayerResponse fromEntity(Player player) {
+        Map<String, String> variants = player.getPhotoVariants();
+        return PlayerResponse.builder()
+                .id(player.getId())
+                .teamId(player.getTeam().getId())
+                .fullName(player.getFullName())
+                .jerseyNumber(player.getJerseyNumber())
+                .position(player.getPosition())
+                .photoUrl(player.getPhotoUrl())
+                .photoThumbUrl(variants != null ? variants.get("thumb") : player.getPhotoUrl())
+                .photoVariants(variants)
+                .createdAt(player.getCreatedAt())
+                .updatedAt(player.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.leaguehq.dto.response;
+
+import com.leaguehq.service.CompetitionSchedule;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Data
+@Builder
+public class ScheduleConflictResponse {
+
+    // TEAM or VENUE
+    private String type;
+    private UUID resourceId;
+    private UUID conflictingMatchId;
+    private LocalDate matchDate;
+    private LocalTime matchTime;
+
+    public static ScheduleConflictResponse fromConflict(CompetitionSchedule.Conflict conflict) {
+        return ScheduleConflictResponse.builder()
+                .type(conflict.type().name())
+                .resourceId(conflict.resourceId())
+                .conflictingMatchId(conflict.matchId())
+                .matchDate(conflict.matchDate())
+                .matchTime(conflict.matchTime())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.leaguehq.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class ScheduleValidationResponse {
+
+    private UUID matchId;
+    private Boolean valid;
+    private List<ScheduleConflictResponse> conflicts;
+}
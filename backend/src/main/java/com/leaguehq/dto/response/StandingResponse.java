@@ -0,0 +1,40 @@
+package com.leaguehq.dto.response;
+
+import com.leaguehq.model.Standing;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class StandingResponse {
+
+    private Integer position;
+    private UUID teamId;
+    private String teamName;
+    private Integer played;
+    private Integer won;
+    private Integer drawn;
+    private Integer lost;
+    private Integer goalsFor;
+    private Integer goalsAgainst;
+    private Integer goalDifference;
+    private Integer points;
+
+    public static StandingResponse fromEntity(Standing standing, String teamName, int position) {
+        return StandingResponse.builder()
+                .position(position)
+                .teamId(standing.getTeamId())
+                .teamName(teamName)
+                .played(standing.getPlayed())
+                .won(standing.getWon())
+                .drawn(standing.getDrawn())
+                .lost(standing.getLost())
+                .goalsFor(standing.getGoalsFor())
+                .goalsAgainst(standing.getGoalsAgainst())
+                .goalDifference(standing.getGoalsFor() - standing.getGoalsAgainst())
+                .points(standing.getPoints())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.leaguehq.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class StandingsConsistencyResponse {
+
+    private UUID competitionId;
+    private Boolean consistent;
+    // Teams whose materialized row differs from (or is missing in) the live view
+    private List<UUID> mismatchedTeamIds;
+    private Instant checkedAt;
+}
@@ -0,0 +1,22 @@
+package com.leaguehq.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+// Change applied to one team's standings row by a result entry, correction or void
+@Data
+@Builder
+public class StandingsDeltaResponse {
+
+    private UUID teamId;
+    private Integer played;
+    private Integer won;
+    private Integer drawn;
+    private Integer lost;
+    private Integer goalsFor;
+    private Integer goalsAgainst;
+    private Integer goalDifference;
+    private Integer points;
+}
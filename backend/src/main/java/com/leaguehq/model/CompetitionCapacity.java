@@ -0,0 +1,31 @@
+package com.leaguehq.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "competition_capacity")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompetitionCapacity {
+
+    @Id
+    @Column(name = "competition_id")
+    private UUID competitionId;
+
+    @Column(name = "max_teams", nullable = false)
+    private Integer maxTeams;
+
+    // Paid teams plus unexpired unpaid holds
+    @Column(name = "reserved_seats", nullable = false)
+    private Integer reservedSeats;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
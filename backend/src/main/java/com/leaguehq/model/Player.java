@@ -1,11 +1,14 @@
 package com.leaguehq.model;
 
+import io.hypersistence.utils.hibernate.type.json.JsonBinaryType;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Type;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -51,6 +54,15 @@ public class Player {
     @Column(name = "photo_size_bytes")
     private Integer photoSizeBytes;
 
+    // SHA-256 of the uploaded source image; identical re-uploads share the stored variants
+    @Column(name = "photo_hash", length = 64)
+    private String photoHash;
+
+    // Variant name (thumb, card, full) -> public URL (JSONB)
+    @Type(JsonBinaryType.class)
+    @Column(name = "photo_variants", columnDefinition = "jsonb")
+    private Map<String, String> photoVariants;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -0,0 +1,65 @@
+package com.leaguehq.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "standings")
+@IdClass(Standing.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Standing {
+
+    @Id
+    @Column(name = "competition_id")
+    private UUID competitionId;
+
+    @Id
+    @Column(name = "team_id")
+    private UUID teamId;
+
+    @Column(nullable = false)
+    private Integer played;
+
+    @Column(nullable = false)
+    private Integer won;
+
+    @Column(nullable = false)
+    private Integer drawn;
+
+    @Column(nullable = false)
+    private Integer lost;
+
+    @Column(name = "goals_for", nullable = false)
+    private Integer goalsFor;
+
+    @Column(name = "goals_against", nullable = false)
+    private Integer goalsAgainst;
+
+    // Generated column (goals_for - goals_against)
+    @Column(name = "goal_difference", insertable = false, updatable = false)
+    private Integer goalDifference;
+
+    @Column(nullable = false)
+    private Integer points;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID competitionId;
+        private UUID teamId;
+    }
+}
@@ -41,6 +41,7 @@ public class SubscriptionEvent {
     @Column(name = "new_status", length = 50)
     private String newStatus;
 
+    // Set for events produced by a webhook; unique so redeliveries cannot double-apply
     @Column(name = "stripe_event_id", length = 255)
     private String stripeEventId;
 
@@ -0,0 +1,30 @@
+package com.leaguehq.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// One row per team in its grace period; dueAt is when eligibility is suspended
+@Entity
+@Table(name = "subscription_grace_timers")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubscriptionGraceTimer {
+
+    @Id
+    @Column(name = "team_id")
+    private UUID teamId;
+
+    @Column(name = "due_at", nullable = false)
+    private Instant dueAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
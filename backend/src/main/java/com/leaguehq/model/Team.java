@@ -64,6 +64,10 @@ public class Team {
     @Column(name = "stripe_latest_payment_intent_id", length = 255)
     private String stripeLatestPaymentIntentId;
 
+    // Latest checkout session started for this registration
+    @Column(name = "stripe_checkout_session_id", length = 255)
+    private String stripeCheckoutSessionId;
+
     // Subscription tracking
     @Column(name = "subscription_id", unique = true, length = 255)
     private String subscriptionId;
@@ -110,6 +114,14 @@ public class Team {
     @Column(name = "registered_at")
     private Instant registeredAt;
 
+    // Seat hold for an unpaid registration; cleared once the entry fee is paid
+    @Column(name = "seat_expires_at")
+    private Instant seatExpiresAt;
+
+    // Set when an expired hold's seat was given back; a new checkout has to claim one again
+    @Column(name = "seat_released_at")
+    private Instant seatReleasedAt;
+
     public enum SubscriptionStatus {
         ACTIVE,
         PAST_DUE,
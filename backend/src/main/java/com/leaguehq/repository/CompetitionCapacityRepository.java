@@ -0,0 +1,57 @@
+package com.leaguehq.repository;
+
+import com.leaguehq.model.CompetitionCapacity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface CompetitionCapacityRepository extends JpaRepository<CompetitionCapacity, UUID> {
+
+    @Modifying
+    @Query(value = "INSERT INTO competition_capacity (competition_id, max_teams, reserved_seats) " +
+                   "VALUES (:competitionId, :maxTeams, 0) ON CONFLICT (competition_id) DO NOTHING",
+           nativeQuery = true)
+    int initialize(UUID competitionId, int maxTeams);
+
+    // Returns 1 if a seat was claimed, 0 if the competition is full. The row lock is held
+    // only until the registering transaction commits.
+    @Modifying
+    @Query("UPDATE CompetitionCapacity cc SET cc.reservedSeats = cc.reservedSeats + 1, cc.updatedAt = INSTANT " +
+           "WHERE cc.competitionId = :competitionId AND cc.reservedSeats < cc.maxTeams")
+    int tryReserveSeat(UUID competitionId);
+
+    // For payments on registrations that never held a seat (created before seat holds existed)
+    @Modifying
+    @Query("UPDATE CompetitionCapacity cc SET cc.reservedSeats = cc.reservedSeats + 1, cc.updatedAt = INSTANT " +
+           "WHERE cc.competitionId = :competitionId")
+    int forceReserveSeat(UUID competitionId);
+
+    // Gives back the seats of unpaid registrations whose hold expired, in one statement. The team
+    // rows stay: a checkout started later claims a seat again. Returns the number of competitions
+    // whose counters changed.
+    @Modifying
+    @Query(value = "WITH expired AS (" +
+                   "    UPDATE teams SET seat_expires_at = NULL, seat_released_at = :now, updated_at = :now " +
+                   "    WHERE entry_fee_paid IS NOT TRUE AND seat_expires_at < :now " +
+                   "    RETURNING competition_id" +
+                   "), released AS (" +
+                   "    SELECT competition_id, COUNT(*) AS seats FROM expired GROUP BY competition_id" +
+                   ") " +
+                   "UPDATE competition_capacity cc " +
+                   "SET reserved_seats = GREATEST(cc.reserved_seats - r.seats, 0), updated_at = now() " +
+                   "FROM released r WHERE cc.competition_id = r.competition_id",
+           nativeQuery = true)
+    int releaseExpiredReservations(Instant now);
+
+    // Removes registrations that were released before :releasedBefore and never paid. They hold
+    // no seat, so the counters are unaffected.
+    @Modifying
+    @Query(value = "DELETE FROM teams WHERE entry_fee_paid IS NOT TRUE AND seat_released_at < :releasedBefore",
+           nativeQuery = true)
+    int purgeReleasedRegistrations(Instant releasedBefore);
+}
@@ -3,25 +3,62 @@ package com.leaguehq.repository;
 import com.leaguehq.model.Competition;
 import com.leaguehq.model.Competition.CompetitionStatus;
 import com.leaguehq.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CompetitionRepository extends JpaRepository<Competition, UUID> {
+public interface CompetitionRepository extends JpaRepository<Competition, UUID>, JpaSpecificationExecutor<Competition> {
 
     List<Competition> findByOwner(User owner);
 
+    // Serializes whole-competition schedule changes (fixture generation)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Competition c WHERE c.id = :id")
+    Optional<Competition> findByIdForUpdate(UUID id);
+
     List<Competition> findByOwnerId(UUID ownerId);
 
     List<Competition> findByStatus(CompetitionStatus status);
 
+    // [id, startDate, registrationDeadline, policy] for the roster lock queue
+    @Query("SELECT c.id, c.startDate, c.registrationDeadline, c.policy FROM Competition c WHERE c.status IN :statuses")
+    List<Object[]> findRosterLockScheduleByStatusIn(Collection<CompetitionStatus> statuses);
+
     Optional<Competition> findByShareToken(String shareToken);
 
+    @Query("SELECT c.id FROM Competition c WHERE c.shareToken = :shareToken")
+    Optional<UUID> findIdByShareToken(String shareToken);
+
+    @Query("SELECT c.shareToken FROM Competition c WHERE c.shareToken IS NOT NULL")
+    List<String> findAllShareTokens();
+
+    @Query("SELECT c.shareToken FROM Competition c WHERE c.shareToken IS NOT NULL AND c.createdAt > :createdAfter")
+    List<String> findShareTokensCreatedAfter(Instant createdAfter);
+
     List<Competition> findByOwnerIdAndStatus(UUID ownerId, CompetitionStatus status);
 
     List<Competition> findByOwnerOrderByCreatedAtDesc(User owner);
+
+    @Query("SELECT c FROM Competition c JOIN FETCH c.owner WHERE c.id = :id")
+    Optional<Competition> findByIdWithOwner(UUID id);
+
+    // Returns a single [updatedAt, paidTeamCount, latestPaidTeamUpdatedAt] row, or none if the competition doesn't exist
+    @Query("SELECT c.updatedAt, COUNT(t.id), MAX(t.updatedAt) FROM Competition c " +
+           "LEFT JOIN Team t ON t.competition = c AND t.entryFeePaid = true " +
+           "WHERE c.id = :id GROUP BY c.id, c.updatedAt")
+    List<Object[]> findVersionById(UUID id);
+
+    // Owner is fetched in the same statement so CompetitionResponse.fromEntity doesn't lazy-load it per row
+    @Query("SELECT c FROM Competition c JOIN FETCH c.owner WHERE c.owner.id = :ownerId ORDER BY c.createdAt DESC")
+    List<Competition> findByOwnerIdWithOwner(UUID ownerId);
 }
@@ -0,0 +1,67 @@
+package com.leaguehq.repository;
+
+import com.leaguehq.model.Competition;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public final class CompetitionSpecifications {
+
+    private CompetitionSpecifications() {
+    }
+
+    public static Specification<Competition> hasStatus(Competition.CompetitionStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    // Fetch the owner in the same statement; skipped for count queries where a fetch is illegal
+    public static Specification<Competition> fetchOwner() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("owner");
+            }
+            return null;
+        };
+    }
+
+    public static Specification<Competition> hasFormat(Competition.CompetitionFormat format) {
+        return format == null ? null : (root, query, cb) -> cb.equal(root.get("format"), format);
+    }
+
+    public static Specification<Competition> hasTeamSize(Competition.TeamSize teamSize) {
+        return teamSize == null ? null : (root, query, cb) -> cb.equal(root.get("teamSize"), teamSize);
+    }
+
+    public static Specification<Competition> startsOnOrAfter(LocalDate date) {
+        return date == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startDate"), date);
+    }
+
+    public static Specification<Competition> startsOnOrBefore(LocalDate date) {
+        return date == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("startDate"), date);
+    }
+
+    public static Specification<Competition> entryFeeAtLeast(BigDecimal fee) {
+        return fee == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("entryFee"), fee);
+    }
+
+    public static Specification<Competition> entryFeeAtMost(BigDecimal fee) {
+        return fee == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("entryFee"), fee);
+    }
+
+    // Keyset predicate for (published_at DESC, id DESC): rows strictly after the last row of the previous page
+    public static Specification<Competition> publishedBefore(Instant publishedAt, UUID id) {
+        if (publishedAt == null) {
+            return (root, query, cb) -> cb.isNotNull(root.get("publishedAt"));
+        }
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("publishedAt"), publishedAt),
+                cb.and(
+                        cb.equal(root.get("publishedAt"), publishedAt),
+                        cb.lessThan(root.get("id"), id)
+                )
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package com.leaguehq.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+// Bulk match writes that would otherwise be one INSERT/UPDATE per row through the
+// persistence context. With reWriteBatchedInserts on the JDBC URL the driver folds each batch
+// into multi-row statements.
+@Repository
+@RequiredArgsConstructor
+public class MatchJdbcRepository {
+
+    private static final String INSERT_SCHEDULED =
+            "INSERT INTO matches (id, competition_id, home_team_id, away_team_id, match_date, match_time, " +
+            "venue_id, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 'SCHEDULED', ?, ?)";
+
+    private static final String UPDATE_RESULT =
+            "UPDATE matches SET home_score = ?, away_score = ?, status = 'COMPLETED', " +
+            "result_entered_by = ?, result_entered_at = ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record NewMatch(UUID id, UUID homeTeamId, UUID awayTeamId,
+                           LocalDate matchDate, LocalTime matchTime, UUID venueId) {
+    }
+
+    public record ResultUpdate(UUID matchId, int homeScore, int awayScore) {
+    }
+
+    public void updateResults(List<ResultUpdate> results, UUID enteredBy, Instant enteredAt) {
+        Timestamp enteredAtTs = Timestamp.from(enteredAt);
+
+        jdbcTemplate.batchUpdate(UPDATE_RESULT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ResultUpdate result = results.get(i);
+                ps.setInt(1, result.homeScore());
+                ps.setInt(2, result.awayScore());
+                ps.setObject(3, enteredBy);
+                ps.setTimestamp(4, enteredAtTs);
+                ps.setTimestamp(5, enteredAtTs);
+                ps.setObject(6, result.matchId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return results.size();
+            }
+        });
+    }
+
+    public void insertScheduled(UUID competitionId, List<NewMatch> matches) {
+        Timestamp now = Timestamp.from(Instant.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SCHEDULED, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                NewMatch match = matches.get(i);
+                ps.setObject(1, match.id());
+                ps.setObject(2, competitionId);
+                ps.setObject(3, match.homeTeamId());
+                ps.setObject(4, match.awayTeamId());
+                ps.setObject(5, match.matchDate());
+                if (match.matchTime() != null) {
+                    ps.setObject(6, match.matchTime());
+                } else {
+                    ps.setNull(6, Types.TIME);
+                }
+                if (match.venueId() != null) {
+                    ps.setObject(7, match.venueId());
+                } else {
+                    ps.setNull(7, Types.OTHER);
+                }
+                ps.setTimestamp(8, now);
+                ps.setTimestamp(9, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return matches.size();
+            }
+        });
+    }
+}
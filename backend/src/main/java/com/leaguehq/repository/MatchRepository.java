@@ -2,12 +2,17 @@ package com.leaguehq.repository;
 
 import com.leaguehq.model.Match;
 import com.leaguehq.model.Match.MatchStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -15,6 +20,45 @@ public interface MatchRepository extends JpaRepository<Match, UUID> {
 
     List<Match> findByCompetitionId(UUID competitionId);
 
+    // Serializes result entry/correction for one match
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Match m WHERE m.id = :id")
+    Optional<Match> findByIdForUpdate(UUID id);
+
+    // Scalar projection for the standings engine: [homeTeamId, awayTeamId, homeScore, awayScore]
+    @Query("SELECT m.homeTeam.id, m.awayTeam.id, m.homeScore, m.awayScore FROM Match m " +
+           "WHERE m.competition.id = :competitionId AND m.status = :status " +
+           "AND m.homeScore IS NOT NULL AND m.awayScore IS NOT NULL")
+    List<Object[]> findResultsByCompetitionIdAndStatus(UUID competitionId, MatchStatus status);
+
+    // Scalar projection for the schedule index: [id, homeTeamId, awayTeamId, venueId, matchDate, matchTime]
+    @Query("SELECT m.id, m.homeTeam.id, m.awayTeam.id, v.id, m.matchDate, m.matchTime FROM Match m " +
+           "LEFT JOIN m.venue v WHERE m.competition.id = :competitionId AND m.status IN :statuses")
+    List<Object[]> findScheduleByCompetitionId(UUID competitionId, Collection<MatchStatus> statuses);
+
+    // Same projection, limited to bookings of either team or the venue in a date window; a range
+    // scan of idx_matches_comp_date_time rather than the whole competition
+    @Query("SELECT m.id, m.homeTeam.id, m.awayTeam.id, v.id, m.matchDate, m.matchTime FROM Match m " +
+           "LEFT JOIN m.venue v WHERE m.competition.id = :competitionId AND m.status IN :statuses " +
+           "AND m.matchDate BETWEEN :fromDate AND :toDate " +
+           "AND (m.homeTeam.id IN :teamIds OR m.awayTeam.id IN :teamIds OR v.id = :venueId)")
+    List<Object[]> findScheduleNearSlot(UUID competitionId, Collection<MatchStatus> statuses,
+                                        LocalDate fromDate, LocalDate toDate,
+                                        Collection<UUID> teamIds, UUID venueId);
+
+    boolean existsByCompetitionId(UUID competitionId);
+
+    boolean existsByCompetitionIdAndStatusNot(UUID competitionId, MatchStatus status);
+
+    @Modifying
+    @Query("DELETE FROM Match m WHERE m.competition.id = :competitionId")
+    int deleteByCompetitionId(UUID competitionId);
+
+    // Batch result entry; id order keeps concurrent batches from deadlocking
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Match m WHERE m.competition.id = :competitionId AND m.id IN :ids ORDER BY m.id")
+    List<Match> findByCompetitionIdAndIdInForUpdate(UUID competitionId, Collection<UUID> ids);
+
     List<Match> findByCompetitionIdAndStatus(UUID competitionId, MatchStatus status);
 
     List<Match> findByCompetitionIdAndMatchDate(UUID competitionId, LocalDate matchDate);
@@ -0,0 +1,59 @@
+package com.leaguehq.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// Roster imports as one JDBC batch. With reWriteBatchedInserts the driver rewrites it into
+// multi-row INSERTs, split into power-of-two chunks (a 20-player import is 16 + 4 rows), so the
+// statement-level roster size trigger runs once per chunk rather than once per player. Each run
+// adds its own chunk's count, so the final size is right either way.
+@Repository
+@RequiredArgsConstructor
+public class PlayerJdbcRepository {
+
+    private static final String INSERT_PLAYER =
+            "INSERT INTO players (id, team_id, full_name, jersey_number, position, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record NewPlayer(UUID id, String fullName, Integer jerseyNumber, String position) {
+    }
+
+    public void insertAll(UUID teamId, List<NewPlayer> players, Instant createdAt) {
+        Timestamp createdAtTs = Timestamp.from(createdAt);
+
+        jdbcTemplate.batchUpdate(INSERT_PLAYER, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                NewPlayer player = players.get(i);
+                ps.setObject(1, player.id());
+                ps.setObject(2, teamId);
+                ps.setString(3, player.fullName());
+                if (player.jerseyNumber() != null) {
+                    ps.setInt(4, player.jerseyNumber());
+                } else {
+                    ps.setNull(4, Types.INTEGER);
+                }
+                ps.setString(5, player.position());
+                ps.setTimestamp(6, createdAtTs);
+                ps.setTimestamp(7, createdAtTs);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return players.size();
+            }
+        });
+    }
+}
@@ -2,8 +2,13 @@ package com.leaguehq.repository;
 
 import com.leaguehq.model.Player;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,9 +18,65 @@ public interface PlayerRepository extends JpaRepository<Player, UUID> {
 
     List<Player> findByTeamId(UUID teamId);
 
+    @Query("SELECT p FROM Player p WHERE p.team.id = :teamId ORDER BY p.jerseyNumber ASC NULLS LAST, p.fullName")
+    List<Player> findRosterByTeamId(UUID teamId);
+
+    // One entry per player (null for players without a number): the roster prefetch for
+    // size and jersey checks
+    @Query("SELECT p.jerseyNumber FROM Player p WHERE p.team.id = :teamId")
+    List<Integer> findJerseyNumbersByTeamId(UUID teamId);
+
+    List<Player> findByTeamIdAndIdIn(UUID teamId, Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE Player p SET p.fullName = :fullName, p.jerseyNumber = :jerseyNumber, p.position = :position, " +
+           "p.updatedAt = :updatedAt WHERE p.id = :id")
+    int updateDetails(UUID id, String fullName, Integer jerseyNumber, String position, Instant updatedAt);
+
+    // Single statement, so the roster size trigger adjusts the team once
+    @Modifying
+    @Query("DELETE FROM Player p WHERE p.team.id = :teamId AND p.id IN :ids")
+    int deleteByTeamIdAndIdIn(UUID teamId, Collection<UUID> ids);
+
     Optional<Player> findByTeamIdAndJerseyNumber(UUID teamId, Integer jerseyNumber);
 
     boolean existsByTeamIdAndJerseyNumber(UUID teamId, Integer jerseyNumber);
 
     long countByTeamId(UUID teamId);
+
+    // [coachId, photoUrl, photoHash, photoVariants] for the photo upload ownership and dedupe checks
+    @Query("SELECT t.coach.id, p.photoUrl, p.photoHash, p.photoVariants FROM Player p JOIN p.team t WHERE p.id = :playerId")
+    List<Object[]> findCoachIdAndPhotoById(UUID playerId);
+
+    // Another player already holding this photo: its stored variants can be reused as-is
+    Optional<Player> findFirstByPhotoHashAndIdNot(String photoHash, UUID id);
+
+    // Stored variants are shared by content hash; they may only be deleted once unreferenced
+    boolean existsByPhotoHashAndIdNot(String photoHash, UUID id);
+
+    // Serializes everything that stores, adopts or deletes one hash's variants. Releases at commit.
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext('photo:' || :photoHash))) l", nativeQuery = true)
+    Integer lockPhotoHash(String photoHash);
+
+    // Bumped under the hash lock before a hash's variants are removed from storage
+    @Modifying
+    @Query(value = "INSERT INTO photo_deletions (photo_hash, deletion_count) VALUES (:photoHash, 1) " +
+                   "ON CONFLICT (photo_hash) DO UPDATE SET deletion_count = photo_deletions.deletion_count + 1",
+           nativeQuery = true)
+    int recordPhotoDeletion(String photoHash);
+
+    @Query(value = "SELECT COALESCE((SELECT deletion_count FROM photo_deletions WHERE photo_hash = :photoHash), 0)",
+           nativeQuery = true)
+    long countPhotoDeletions(String photoHash);
+
+    // Native so the variant map can be bound as JSON text; a JPQL parameter of Map type is not
+    // routed through the attribute's JSONB type
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE players SET photo_url = :photoUrl, photo_size_bytes = :photoSizeBytes, " +
+                   "photo_hash = :photoHash, photo_variants = CAST(:photoVariantsJson AS jsonb), " +
+                   "photo_uploaded_at = :photoUploadedAt, updated_at = :photoUploadedAt WHERE id = :id",
+           nativeQuery = true)
+    int updatePhoto(UUID id, String photoUrl, int photoSizeBytes, String photoHash,
+                    String photoVariantsJson, Instant photoUploadedAt);
 }
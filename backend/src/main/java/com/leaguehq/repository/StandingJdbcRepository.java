@@ -0,0 +1,60 @@
+package com.leaguehq.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+// Batched form of StandingRepository.applyDelta for multi-result writes
+@Repository
+@RequiredArgsConstructor
+public class StandingJdbcRepository {
+
+    private static final String APPLY_DELTA =
+            "INSERT INTO standings (competition_id, team_id, played, won, drawn, lost, goals_for, goals_against, points) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (competition_id, team_id) DO UPDATE SET " +
+            "    played = standings.played + EXCLUDED.played, " +
+            "    won = standings.won + EXCLUDED.won, " +
+            "    drawn = standings.drawn + EXCLUDED.drawn, " +
+            "    lost = standings.lost + EXCLUDED.lost, " +
+            "    goals_for = standings.goals_for + EXCLUDED.goals_for, " +
+            "    goals_against = standings.goals_against + EXCLUDED.goals_against, " +
+            "    points = standings.points + EXCLUDED.points, " +
+            "    updated_at = now()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record TeamDelta(UUID teamId, int played, int won, int drawn, int lost,
+                            int goalsFor, int goalsAgainst, int points) {
+    }
+
+    // Callers pass rows in team-id order so concurrent batches lock rows in the same order
+    public void applyDeltas(UUID competitionId, List<TeamDelta> deltas) {
+        jdbcTemplate.batchUpdate(APPLY_DELTA, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                TeamDelta delta = deltas.get(i);
+                ps.setObject(1, competitionId);
+                ps.setObject(2, delta.teamId());
+                ps.setInt(3, delta.played());
+                ps.setInt(4, delta.won());
+                ps.setInt(5, delta.drawn());
+                ps.setInt(6, delta.lost());
+                ps.setInt(7, delta.goalsFor());
+                ps.setInt(8, delta.goalsAgainst());
+                ps.setInt(9, delta.points());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.leaguehq.repository;
+
+import com.leaguehq.model.Standing;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface StandingRepository extends JpaRepository<Standing, Standing.Key> {
+
+    // Returns [Standing, teamName] in table order
+    @Query("SELECT s, t.name FROM Standing s JOIN Team t ON t.id = s.teamId " +
+           "WHERE s.competitionId = :competitionId " +
+           "ORDER BY s.points DESC, s.goalDifference DESC, s.goalsFor DESC, t.name")
+    List<Object[]> findTableByCompetitionId(UUID competitionId);
+
+    // Adds a (possibly negative) delta to one team's row
+    @Modifying
+    @Query(value = "INSERT INTO standings (competition_id, team_id, played, won, drawn, lost, goals_for, goals_against, points) " +
+                   "VALUES (:competitionId, :teamId, :played, :won, :drawn, :lost, :goalsFor, :goalsAgainst, :points) " +
+                   "ON CONFLICT (competition_id, team_id) DO UPDATE SET " +
+                   "    played = standings.played + EXCLUDED.played, " +
+                   "    won = standings.won + EXCLUDED.won, " +
+                   "    drawn = standings.drawn + EXCLUDED.drawn, " +
+                   "    lost = standings.lost + EXCLUDED.lost, " +
+                   "    goals_for = standings.goals_for + EXCLUDED.goals_for, " +
+                   "    goals_against = standings.goals_against + EXCLUDED.goals_against, " +
+                   "    points = standings.points + EXCLUDED.points, " +
+                   "    updated_at = now()",
+           nativeQuery = true)
+    int applyDelta(UUID competitionId, UUID teamId, int played, int won, int drawn, int lost,
+                   int goalsFor, int goalsAgainst, int points);
+
+    @Modifying
+    @Query("DELETE FROM Standing s WHERE s.competitionId = :competitionId")
+    int deleteByCompetitionId(UUID competitionId);
+
+    @Modifying
+    @Query(value = "INSERT INTO standings (competition_id, team_id, played, won, drawn, lost, goals_for, goals_against, points) " +
+                   "SELECT competition_id, team_id, played, won, drawn, lost, goals_for, goals_against, points " +
+                   "FROM standings_live WHERE competition_id = :competitionId",
+           nativeQuery = true)
+    int insertFromLiveView(UUID competitionId);
+
+    @Query(value = "SELECT COALESCE(l.team_id, s.team_id) FROM " +
+                   "    (SELECT * FROM standings_live WHERE competition_id = :competitionId) l " +
+                   "FULL JOIN " +
+                   "    (SELECT * FROM standings WHERE competition_id = :competitionId) s " +
+                   "    ON s.team_id = l.team_id " +
+                   "WHERE l.team_id IS NULL OR s.team_id IS NULL " +
+                   "   OR l.played <> s.played OR l.won <> s.won OR l.drawn <> s.drawn OR l.lost <> s.lost " +
+                   "   OR l.goals_for <> s.goals_for OR l.goals_against <> s.goals_against OR l.points <> s.points",
+           nativeQuery = true)
+    List<UUID> findInconsistentTeamIds(UUID competitionId);
+
+    // Result entry takes the shared lock, rebuild the exclusive one, so a rebuild never
+    // interleaves with deltas for the same competition. Both release at commit.
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock_shared(hashtext(:lockKey))) l", nativeQuery = true)
+    Integer lockCompetitionShared(String lockKey);
+
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext(:lockKey))) l", nativeQuery = true)
+    Integer lockCompetitionExclusive(String lockKey);
+}
@@ -0,0 +1,34 @@
+package com.leaguehq.repository;
+
+import com.leaguehq.model.StripeWebhookEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface StripeWebhookEventRepository extends JpaRepository<StripeWebhookEvent, UUID> {
+
+    // Stripe redelivers events; a duplicate insert is a no-op (returns 0)
+    @Modifying
+    @Query(value = "INSERT INTO stripe_webhook_events (stripe_event_id, event_type, payload) " +
+                   "VALUES (:stripeEventId, :eventType, :payload) " +
+                   "ON CONFLICT (stripe_event_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(String stripeEventId, String eventType, String payload);
+
+    // Due events plus events whose worker lease ran out. SKIP LOCKED lets several
+    // instances drain the inbox concurrently without handing out the same row twice.
+    @Query(value = "SELECT * FROM stripe_webhook_events " +
+                   "WHERE (status IN ('PENDING', 'RETRY') AND next_attempt_at <= :now) " +
+                   "   OR (status = 'PROCESSING' AND locked_until < :now) " +
+                   "ORDER BY next_attempt_at " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<StripeWebhookEvent> lockDueEvents(Instant now, int limit);
+}
@@ -0,0 +1,52 @@
+package com.leaguehq.repository;
+
+import com.leaguehq.model.SubscriptionEvent.EventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// Batched subscription event inserts for timer-driven transitions, which have no Stripe event id
+@Repository
+@RequiredArgsConstructor
+public class SubscriptionEventJdbcRepository {
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO subscription_events (id, team_id, subscription_id, event_type, old_status, new_status, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record TeamSubscription(UUID teamId, String subscriptionId) {
+    }
+
+    public void insertAll(List<TeamSubscription> teams, EventType eventType, String oldStatus, String newStatus,
+                          Instant createdAt) {
+        Timestamp timestamp = Timestamp.from(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_EVENT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                TeamSubscription team = teams.get(i);
+                ps.setObject(1, UUID.randomUUID());
+                ps.setObject(2, team.teamId());
+                ps.setString(3, team.subscriptionId());
+                ps.setString(4, eventType.name());
+                ps.setString(5, oldStatus);
+                ps.setString(6, newStatus);
+                ps.setTimestamp(7, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return teams.size();
+            }
+        });
+    }
+}
@@ -20,4 +20,6 @@ public interface SubscriptionEventRepository extends JpaRepository<SubscriptionE
     List<SubscriptionEvent> findByTeamIdOrderByCreatedAtDesc(UUID teamId);
 
     List<SubscriptionEvent> findBySubscriptionIdOrderByCreatedAtDesc(String subscriptionId);
+
+    boolean existsByStripeEventId(String stripeEventId);
 }
@@ -0,0 +1,42 @@
+package com.leaguehq.repository;
+
+import com.leaguehq.model.SubscriptionGraceTimer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SubscriptionGraceTimerRepository extends JpaRepository<SubscriptionGraceTimer, UUID> {
+
+    // Returns 0 when the team is already in grace, so repeated failures keep the first deadline
+    @Modifying
+    @Query(value = "INSERT INTO subscription_grace_timers (team_id, due_at) VALUES (:teamId, :dueAt) " +
+                   "ON CONFLICT (team_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(UUID teamId, Instant dueAt);
+
+    // Claims due timers; rows held by another expiry or a concurrent payment are skipped
+    @Query(value = "SELECT * FROM subscription_grace_timers " +
+                   "WHERE team_id IN (:teamIds) AND due_at <= :now " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<SubscriptionGraceTimer> lockDueTimers(Collection<UUID> teamIds, Instant now);
+
+    // [teamId, dueAt] for rebuilding the in-memory wheel
+    @Query("SELECT g.teamId, g.dueAt FROM SubscriptionGraceTimer g")
+    List<Object[]> findAllDueTimes();
+
+    @Modifying
+    @Query("DELETE FROM SubscriptionGraceTimer g WHERE g.teamId = :teamId")
+    int deleteByTeamId(UUID teamId);
+
+    @Modifying
+    @Query("DELETE FROM SubscriptionGraceTimer g WHERE g.teamId IN :teamIds")
+    int deleteByTeamIdIn(Collection<UUID> teamIds);
+}
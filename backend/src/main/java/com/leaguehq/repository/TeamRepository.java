@@ -2,10 +2,16 @@ package com.leaguehq.repository;
 
 import com.leaguehq.model.Team;
 import com.leaguehq.model.Team.SubscriptionStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,8 +23,43 @@ public interface TeamRepository extends JpaRepository<Team, UUID> {
 
     List<Team> findByCoachId(UUID coachId);
 
+    // Serializes roster changes for one team, so checks against a prefetched roster hold until commit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Team t WHERE t.id = :id")
+    Optional<Team> findByIdForUpdate(UUID id);
+
+    // Listing queries fetch everything TeamResponse.fromEntity touches in one statement
+    @Query("SELECT t FROM Team t JOIN FETCH t.competition JOIN FETCH t.coach " +
+           "WHERE t.competition.id = :competitionId ORDER BY t.registeredAt DESC NULLS LAST")
+    List<Team> findByCompetitionIdWithDetails(UUID competitionId);
+
+    @Query("SELECT t FROM Team t JOIN FETCH t.competition JOIN FETCH t.coach " +
+           "WHERE t.coach.id = :coachId ORDER BY t.registeredAt DESC NULLS LAST")
+    List<Team> findByCoachIdWithDetails(UUID coachId);
+
+    // Also fetches the competition owner for the access check in getTeamById
+    @Query("SELECT t FROM Team t JOIN FETCH t.competition c JOIN FETCH c.owner JOIN FETCH t.coach " +
+           "WHERE t.id = :teamId")
+    Optional<Team> findByIdWithDetails(UUID teamId);
+
     Optional<Team> findBySubscriptionId(String subscriptionId);
 
+    // Serializes subscription webhooks for one team with each other and with grace expiry
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Team t WHERE t.subscriptionId = :subscriptionId")
+    Optional<Team> findBySubscriptionIdForUpdate(String subscriptionId);
+
+    // Locks every still-open roster in the competition in one statement
+    @Modifying
+    @Transactional
+    @Query("UPDATE Team t SET t.rosterLocked = true, t.rosterLockedAt = :lockedAt, t.updatedAt = :lockedAt " +
+           "WHERE t.competition.id = :competitionId AND (t.rosterLocked = false OR t.rosterLocked IS NULL)")
+    int lockRostersByCompetitionId(UUID competitionId, Instant lockedAt);
+
+    @Query("SELECT DISTINCT t.competition.id FROM Team t WHERE t.competition.id IN :competitionIds " +
+           "AND (t.rosterLocked = false OR t.rosterLocked IS NULL)")
+    List<UUID> findCompetitionIdsWithOpenRosters(Collection<UUID> competitionIds);
+
     List<Team> findByCompetitionIdAndIsEligible(UUID competitionId, Boolean isEligible);
 
     boolean existsByCompetitionIdAndName(UUID competitionId, String name);
@@ -26,6 +67,48 @@ public interface TeamRepository extends JpaRepository<Team, UUID> {
     @Query("SELECT t FROM Team t WHERE t.subscriptionStatus = :status")
     List<Team> findBySubscriptionStatus(SubscriptionStatus status);
 
+    // [id, subscriptionId, subscriptionStatus, isEligible] of the teams among :ids that no one else
+    // has locked; a team a payment webhook is working on is left out rather than waited for
+    @Query(value = "SELECT id, subscription_id, subscription_status, is_eligible FROM teams " +
+                   "WHERE id IN (:ids) FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Object[]> lockSubscriptionsByIdIn(Collection<UUID> ids);
+
+    // Suspends eligibility for a batch of expired grace periods in one statement
+    // Written after the Stripe call, in its own short transaction
+    @Modifying
+    @Query("UPDATE Team t SET t.stripeCheckoutSessionId = :sessionId, t.updatedAt = :now WHERE t.id = :teamId")
+    int updateCheckoutSessionId(UUID teamId, String sessionId, Instant now);
+
+    @Modifying
+    @Query("UPDATE Team t SET t.isEligible = false, t.updatedAt = :now " +
+           "WHERE t.id IN :ids AND t.subscriptionStatus = :status AND t.isEligible = true")
+    int suspendEligibility(Collection<UUID> ids, SubscriptionStatus status, Instant now);
+
+    // Registered (paid) teams, earliest registration first
+    @Query("SELECT t.id FROM Team t WHERE t.competition.id = :competitionId AND t.entryFeePaid = true " +
+           "ORDER BY t.registeredAt ASC NULLS LAST, t.name")
+    List<UUID> findRegisteredTeamIdsByCompetitionId(UUID competitionId);
+
     @Query("SELECT COUNT(t) FROM Team t WHERE t.competition.id = :competitionId AND t.entryFeePaid = true")
     long countRegisteredTeamsByCompetitionId(UUID competitionId);
+
+    // Version queries for conditional GETs; aggregates always return exactly one row
+    @Query("SELECT COUNT(t), MAX(t.updatedAt), MAX(c.updatedAt) FROM Team t JOIN t.competition c " +
+           "WHERE t.coach.id = :coachId")
+    List<Object[]> findVersionByCoachId(UUID coachId);
+
+    @Query("SELECT COUNT(t), MAX(t.updatedAt) FROM Team t WHERE t.competition.id = :competitionId")
+    List<Object[]> findVersionByCompetitionId(UUID competitionId);
+
+    // Empty when the team doesn't exist or the user is neither its coach nor the competition owner
+    @Query("SELECT t.updatedAt, c.updatedAt FROM Team t JOIN t.competition c " +
+           "WHERE t.id = :teamId AND (t.coach.id = :userId OR c.owner.id = :userId)")
+    List<Object[]> findVersionByIdForUser(UUID teamId, UUID userId);
+
+    // Returns [competitionId, count] pairs; competitions with no paid teams are absent
+    @Query("SELECT t.competition.id, COUNT(t) FROM Team t " +
+           "WHERE t.competition.id IN :competitionIds AND t.entryFeePaid = true " +
+           "GROUP BY t.competition.id")
+    List<Object[]> countRegisteredTeamsByCompetitionIds(Collection<UUID> competitionIds);
 }
@@ -2,8 +2,12 @@ package com.leaguehq.repository;
 
 import com.leaguehq.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,4 +21,14 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByStripeCustomerId(String stripeCustomerId);
 
     Optional<User> findByStripeConnectAccountId(String stripeConnectAccountId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.passwordHash = :passwordHash WHERE u.id = :id")
+    int updatePasswordHash(UUID id, String passwordHash);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.lastLoginAt = :lastLoginAt WHERE u.id = :id")
+    int updateLastLoginAt(UUID id, Instant lastLoginAt);
 }
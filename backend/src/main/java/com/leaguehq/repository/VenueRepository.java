@@ -5,6 +5,7 @@ import com.leaguehq.model.Venue;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,4 +15,6 @@ public interface VenueRepository extends JpaRepository<Venue, UUID> {
     List<Venue> findByCompetitionId(UUID competitionId);
 
     List<Venue> findByCompetition(Competition competition);
+
+    List<Venue> findByCompetitionIdIn(Collection<UUID> competitionIds);
 }
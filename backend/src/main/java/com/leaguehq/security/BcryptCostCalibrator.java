@@ -0,0 +1,39 @@
+package com.leaguehq.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// Picks the highest bcrypt cost whose hash time on this machine stays within the target.
+// Each cost step doubles the work, so one measurement at the minimum cost is enough to extrapolate.
+@Slf4j
+public final class BcryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private BcryptCostCalibrator() {
+    }
+
+    public static int calibrate(long targetMillis, int minCost, int maxCost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minCost);
+
+        // First run warms up the JIT; keep the faster of the next two
+        encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        double millis = best / 1_000_000.0;
+        int cost = minCost;
+        while (cost < maxCost && millis * 2 <= targetMillis) {
+            millis *= 2;
+            cost++;
+        }
+
+        log.info("Calibrated bcrypt cost: cost={}, estimatedHashMillis={}, targetMillis={}",
+                cost, Math.round(millis), targetMillis);
+        return cost;
+    }
+}
@@ -1,9 +1,13 @@
 package com.leaguehq.security;
 
+import com.leaguehq.cache.BoundedTtlCache;
 import com.leaguehq.model.User;
 import com.leaguehq.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -12,10 +16,20 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    // Short-lived principals for tokens that don't carry claims (or when claims aren't trusted)
+    private final BoundedTtlCache<UUID, UserPrincipal> principalCache;
+    private final boolean trustTokenClaims;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Qualifier("principalCache") BoundedTtlCache<UUID, UserPrincipal> principalCache,
+                                    @Value("${jwt.trust-claims:true}") boolean trustTokenClaims) {
+        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.trustTokenClaims = trustTokenClaims;
+    }
 
     @Override
     @Transactional
@@ -26,11 +40,38 @@ public class CustomUserDetailsService implements UserDetailsService {
         return UserPrincipal.create(user);
     }
 
-    @Transactional
+    // Per-request principal resolution; only tokens issued before role claims existed hit the database
+    public UserDetails loadUserFromClaims(Claims claims) {
+        if (trustTokenClaims && claims.get(JwtTokenProvider.CLAIM_ROLE) != null) {
+            return UserPrincipal.fromClaims(claims);
+        }
+        return loadUserById(UUID.fromString(claims.getSubject()));
+    }
+
     public UserDetails loadUserById(UUID id) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
+        return principalCache.getOrLoad(id, userId -> userRepository.findById(userId)
+                .map(UserPrincipal::create)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId)));
+    }
 
-        return UserPrincipal.create(user);
+    // Invoked by DaoAuthenticationProvider after a successful login when the stored hash
+    // uses a legacy format or a lower bcrypt cost than the current one
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserPrincipal principal = (UserPrincipal) user;
+        userRepository.updatePasswordHash(principal.getId(), newPassword);
+        return new UserPrincipal(
+                principal.getId(),
+                principal.getEmail(),
+                newPassword,
+                principal.getRole(),
+                principal.getPayoutStatus(),
+                principal.getAuthorities()
+        );
+    }
+
+    // Call when a user's role or payout status changes
+    public void evictUser(UUID id) {
+        principalCache.invalidateAfterCommit(id);
     }
 }
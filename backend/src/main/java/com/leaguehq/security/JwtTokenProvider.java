@@ -1,9 +1,11 @@
 package com.leaguehq.security;
 
+import com.leaguehq.cache.BoundedTtlCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -14,61 +16,77 @@ import java.util.UUID;
 @Component
 public class JwtTokenProvider {
 
+    // Authorization-relevant user state carried in the token so requests need no users lookup
+    public static final String CLAIM_EMAIL = "email";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_PAYOUT_STATUS = "payout_status";
+    // Refresh token family the access token was issued under; lets logout cut off live tokens
+    public static final String CLAIM_SESSION = "sid";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // Verified token -> claims, each entry expiring with the token itself
+    private final BoundedTtlCache<String, Claims> verifiedTokenCache;
+
+    // Both are immutable and thread-safe; built once instead of per request
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    public JwtTokenProvider(@Qualifier("verifiedTokenCache") BoundedTtlCache<String, Claims> verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
-    public String generateToken(Authentication authentication) {
-        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+    public String generateToken(UserPrincipal userPrincipal, UUID sessionId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(userPrincipal.getId().toString())
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
-    }
+                .claim(CLAIM_EMAIL, userPrincipal.getEmail())
+                .claim(CLAIM_ROLE, userPrincipal.getRole().name())
+                .claim(CLAIM_SESSION, sessionId.toString());
 
-    public String generateToken(UUID userId) {
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpiration);
+        if (userPrincipal.getPayoutStatus() != null) {
+            builder.claim(CLAIM_PAYOUT_STATUS, userPrincipal.getPayoutStatus().name());
+        }
 
-        return Jwts.builder()
-                .subject(userId.toString())
+        return builder
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public UUID getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return UUID.fromString(claims.getSubject());
-    }
+    // Single verification path: returns the claims of a valid token, or null if the token
+    // is malformed, forged or expired
+    public Claims parseValidToken(String token) {
+        Claims cached = verifiedTokenCache.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
 
-    public boolean validateToken(String token) {
+        Claims claims;
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            claims = jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
+        }
+
+        if (claims.getExpiration() != null) {
+            verifiedTokenCache.putUntil(token, claims, claims.getExpiration().getTime());
         }
+        return claims;
     }
 }
@@ -1,6 +1,7 @@
 package com.leaguehq.security;
 
 import com.leaguehq.model.User;
+import io.jsonwebtoken.Claims;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
@@ -18,21 +19,40 @@ public class UserPrincipal implements UserDetails {
     private UUID id;
     private String email;
     private String password;
+    private User.UserRole role;
+    private User.PayoutStatus payoutStatus;
     private Collection<? extends GrantedAuthority> authorities;
 
     public static UserPrincipal create(User user) {
-        Collection<GrantedAuthority> authorities = Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-        );
-
         return new UserPrincipal(
                 user.getId(),
                 user.getEmail(),
                 user.getPasswordHash(),
-                authorities
+                user.getRole(),
+                user.getPayoutStatus(),
+                authoritiesFor(user.getRole())
         );
     }
 
+    // Built from a verified access token, so no password and no database read
+    public static UserPrincipal fromClaims(Claims claims) {
+        User.UserRole role = User.UserRole.valueOf(claims.get(JwtTokenProvider.CLAIM_ROLE, String.class));
+        String payoutStatus = claims.get(JwtTokenProvider.CLAIM_PAYOUT_STATUS, String.class);
+
+        return new UserPrincipal(
+                UUID.fromString(claims.getSubject()),
+                claims.get(JwtTokenProvider.CLAIM_EMAIL, String.class),
+                null,
+                role,
+                payoutStatus != null ? User.PayoutStatus.valueOf(payoutStatus) : null,
+                authoritiesFor(role)
+        );
+    }
+
+    private static Collection<GrantedAuthority> authoritiesFor(User.UserRole role) {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
     @Override
     public String getUsername() {
         return email;
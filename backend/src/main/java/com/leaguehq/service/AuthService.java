@@ -1,6 +1,7 @@
 package com.leaguehq.service;
 
 import com.leaguehq.dto.request.LoginRequest;
+import com.leaguehq.dto.request.RefreshTokenRequest;
 import com.leaguehq.dto.request.SignupRequest;
 import com.leaguehq.dto.response.AuthResponse;
 import com.leaguehq.dto.response.UserResponse;
@@ -8,17 +9,19 @@ import com.leaguehq.model.User;
 import com.leaguehq.exception.BadRequestException;
 import com.leaguehq.repository.UserRepository;
 import com.leaguehq.security.JwtTokenProvider;
+import com.leaguehq.security.PasswordHashingExecutor;
+import com.leaguehq.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -29,14 +32,25 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final PasswordHashingExecutor hashingExecutor;
+    private final RefreshTokenService refreshTokenService;
 
-    @Transactional
-    public AuthResponse signup(SignupRequest request) {
+    // Hashing runs on the bounded password pool; the future fails with TooManyRequestsException
+    // when that pool is saturated
+    public CompletableFuture<AuthResponse> signup(SignupRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             log.warn("Signup attempt with existing email: {}", request.getEmail());
             throw new BadRequestException("Email already exists");
         }
 
+        return hashingExecutor.supplyAsync(() -> createUser(request));
+    }
+
+    public CompletableFuture<AuthResponse> login(LoginRequest request) {
+        return hashingExecutor.supplyAsync(() -> authenticate(request));
+    }
+
+    private AuthResponse createUser(SignupRequest request) {
         User user = User.builder()
                 .email(request.getEmail())
                 .passwordHash(passwordEncoder.encode(request.getPassword()))
@@ -44,17 +58,19 @@ public class AuthService {
                 .role(request.getRole())
                 .build();
 
-        user = userRepository.save(user);
+        try {
+            user = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // Concurrent signup with the same email won the race
+            throw new BadRequestException("Email already exists");
+        }
         log.info("User registered: userId={}, email={}, role={}", user.getId(), user.getEmail(), user.getRole());
 
-        String token = tokenProvider.generateToken(user.getId());
-        UserResponse userResponse = UserResponse.fromEntity(user);
-
-        return new AuthResponse(token, userResponse);
+        return issueTokens(user);
     }
 
-    @Transactional
-    public AuthResponse login(LoginRequest request) {
+    // Not transactional: no connection is held while bcrypt runs
+    private AuthResponse authenticate(LoginRequest request) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
@@ -62,21 +78,39 @@ public class AuthService {
                 )
         );
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-
-        String token = tokenProvider.generateToken(authentication);
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
 
-        User user = userRepository.findByEmail(request.getEmail())
+        User user = userRepository.findById(principal.getId())
                 .orElseThrow(() -> new BadRequestException("User not found"));
 
         // Update last login
-        user.setLastLoginAt(Instant.now());
-        userRepository.save(user);
+        Instant now = Instant.now();
+        userRepository.updateLastLoginAt(user.getId(), now);
+        user.setLastLoginAt(now);
 
         log.info("User logged in: userId={}, email={}", user.getId(), user.getEmail());
 
-        UserResponse userResponse = UserResponse.fromEntity(user);
+        return issueTokens(user);
+    }
+
+    // Exchanges a refresh token for a new access/refresh pair. The user row is fetched with the
+    // token, so role or payout changes reach the new access token's claims.
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.IssuedToken refreshToken = refreshTokenService.rotate(request.getRefreshToken());
+        User user = refreshToken.user();
+
+        String token = tokenProvider.generateToken(UserPrincipal.create(user), refreshToken.familyId());
+        return new AuthResponse(token, refreshToken.token(), UserResponse.fromEntity(user));
+    }
+
+    public void logout(RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+    }
+
+    private AuthResponse issueTokens(User user) {
+        RefreshTokenService.IssuedToken refreshToken = refreshTokenService.issue(user);
+        String token = tokenProvider.generateToken(UserPrincipal.create(user), refreshToken.familyId());
 
-        return new AuthResponse(token, userResponse);
+        return new AuthResponse(token, refreshToken.token(), UserResponse.fromEntity(user));
     }
 }
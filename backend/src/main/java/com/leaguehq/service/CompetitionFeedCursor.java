@@ -0,0 +1,28 @@
+package com.leaguehq.service;
+
+import com.leaguehq.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+// Keyset position in the published feed. Clients treat the encoded form as opaque.
+record CompetitionFeedCursor(Instant publishedAt, UUID id) {
+
+    String encode() {
+        String raw = publishedAt.getEpochSecond() + ":" + publishedAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CompetitionFeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            Instant publishedAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new CompetitionFeedCursor(publishedAt, UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
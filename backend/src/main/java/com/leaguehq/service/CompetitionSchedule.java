@@ -0,0 +1,127 @@
+package com.leaguehq.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+// In-memory interval index of one competition's bookings, per team and per venue. Each
+// resource's bookings sit in a TreeSet ordered by start minute, so a clash query is a range
+// scan: everything starting in [start - longest booking, end) is a candidate. That makes
+// checking a proposed slot O(log n + k) instead of a scan of the competition's matches.
+//
+// A match with no kickoff time books its whole day. Instances are shared through the
+// schedule index cache, so all access is synchronized.
+public final class CompetitionSchedule {
+
+    public enum ResourceType {
+        TEAM,
+        VENUE
+    }
+
+    public record Conflict(ResourceType type, UUID resourceId, UUID matchId, LocalDate matchDate, LocalTime matchTime) {
+    }
+
+    private record Booking(UUID matchId, long start, long end, LocalDate date, LocalTime time) {
+    }
+
+    private record Entry(UUID homeTeamId, UUID awayTeamId, UUID venueId, Booking booking) {
+    }
+
+    private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final long MINUTES_PER_DAY = 24 * 60;
+    private static final Comparator<Booking> ORDER =
+            Comparator.comparingLong(Booking::start).thenComparing(Booking::matchId);
+
+    private final long matchMinutes;
+    private final long longestBooking;
+    private final Map<UUID, NavigableSet<Booking>> teamBookings = new HashMap<>();
+    private final Map<UUID, NavigableSet<Booking>> venueBookings = new HashMap<>();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+
+    public CompetitionSchedule(long matchMinutes) {
+        this.matchMinutes = matchMinutes;
+        this.longestBooking = Math.max(matchMinutes, MINUTES_PER_DAY);
+    }
+
+    // Adds or moves a match
+    public synchronized void put(UUID matchId, UUID homeTeamId, UUID awayTeamId, UUID venueId,
+                                 LocalDate date, LocalTime time) {
+        remove(matchId);
+
+        Booking booking = booking(matchId, date, time);
+        entries.put(matchId, new Entry(homeTeamId, awayTeamId, venueId, booking));
+        teamBookings.computeIfAbsent(homeTeamId, id -> new TreeSet<>(ORDER)).add(booking);
+        teamBookings.computeIfAbsent(awayTeamId, id -> new TreeSet<>(ORDER)).add(booking);
+        if (venueId != null) {
+            venueBookings.computeIfAbsent(venueId, id -> new TreeSet<>(ORDER)).add(booking);
+        }
+    }
+
+    public synchronized void remove(UUID matchId) {
+        Entry entry = entries.remove(matchId);
+        if (entry == null) {
+            return;
+        }
+        unbook(teamBookings, entry.homeTeamId(), entry.booking());
+        unbook(teamBookings, entry.awayTeamId(), entry.booking());
+        if (entry.venueId() != null) {
+            unbook(venueBookings, entry.venueId(), entry.booking());
+        }
+    }
+
+    // Every booking that would overlap the match at the proposed slot, ignoring the match itself
+    public synchronized List<Conflict> conflicts(UUID matchId, UUID homeTeamId, UUID awayTeamId, UUID venueId,
+                                                 LocalDate date, LocalTime time) {
+        Booking proposed = booking(matchId, date, time);
+        List<Conflict> conflicts = new ArrayList<>();
+        collect(conflicts, ResourceType.TEAM, homeTeamId, teamBookings.get(homeTeamId), proposed);
+        collect(conflicts, ResourceType.TEAM, awayTeamId, teamBookings.get(awayTeamId), proposed);
+        if (venueId != null) {
+            collect(conflicts, ResourceType.VENUE, venueId, venueBookings.get(venueId), proposed);
+        }
+        return conflicts;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void collect(List<Conflict> conflicts, ResourceType type, UUID resourceId,
+                         NavigableSet<Booking> bookings, Booking proposed) {
+        if (bookings == null) {
+            return;
+        }
+
+        Booking from = new Booking(MIN_ID, proposed.start() - longestBooking, 0, null, null);
+        Booking to = new Booking(MIN_ID, proposed.end(), 0, null, null);
+        for (Booking booking : bookings.subSet(from, true, to, false)) {
+            if (booking.end() > proposed.start() && !booking.matchId().equals(proposed.matchId())) {
+                conflicts.add(new Conflict(type, resourceId, booking.matchId(), booking.date(), booking.time()));
+            }
+        }
+    }
+
+    private Booking booking(UUID matchId, LocalDate date, LocalTime time) {
+        long dayStart = date.toEpochDay() * MINUTES_PER_DAY;
+        if (time == null) {
+            return new Booking(matchId, dayStart, dayStart + MINUTES_PER_DAY, date, null);
+        }
+        long start = date.atTime(time).toEpochSecond(ZoneOffset.UTC) / 60;
+        return new Booking(matchId, start, start + matchMinutes, date, time);
+    }
+
+    private static void unbook(Map<UUID, NavigableSet<Booking>> index, UUID resourceId, Booking booking) {
+        NavigableSet<Booking> bookings = index.get(resourceId);
+        if (bookings != null && bookings.remove(booking) && bookings.isEmpty()) {
+            index.remove(resourceId);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.leaguehq.service;
 
+import com.leaguehq.cache.BoundedTtlCache;
 import com.leaguehq.dto.request.CreateCompetitionRequest;
+import com.leaguehq.dto.request.PublishedCompetitionsRequest;
+import com.leaguehq.dto.response.CompetitionPageResponse;
 import com.leaguehq.dto.response.CompetitionResponse;
 import com.leaguehq.dto.response.TeamResponse;
 import com.leaguehq.dto.response.VenueResponse;
@@ -10,10 +13,13 @@ import com.leaguehq.model.Competition;
 import com.leaguehq.model.User;
 import com.leaguehq.model.Venue;
 import com.leaguehq.repository.CompetitionRepository;
+import com.leaguehq.repository.CompetitionSpecifications;
 import com.leaguehq.repository.UserRepository;
 import com.leaguehq.repository.VenueRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,8 +38,13 @@ public class CompetitionService {
     private final UserRepository userRepository;
     private final com.leaguehq.repository.TeamRepository teamRepository;
     private final TeamService teamService;
+    private final BoundedTtlCache<UUID, VersionedResponse<CompetitionResponse>> competitionDetailCache;
+    private final ShareTokenResolver shareTokenResolver;
+    private final SeatReservationService seatReservationService;
+    private final RosterLockScheduler rosterLockScheduler;
     private static final SecureRandom RANDOM = new SecureRandom();
     private static final String SHARE_TOKEN_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final Sort PUBLISHED_FEED_ORDER = Sort.by(Sort.Order.desc("publishedAt"), Sort.Order.desc("id"));
 
     @Transactional
     public CompetitionResponse createCompetition(UUID ownerId, CreateCompetitionRequest request) {
@@ -80,6 +91,9 @@ public class CompetitionService {
                 .build();
 
         competition = competitionRepository.save(competition);
+        shareTokenResolver.registerAfterCommit(shareToken, competition.getId());
+        seatReservationService.initializeCapacity(competition);
+        rosterLockScheduler.scheduleAfterCommit(competition);
         log.info("Competition created: competitionId={}, shareToken={}", competition.getId(), shareToken);
 
         // Create venue
@@ -101,37 +115,61 @@ public class CompetitionService {
     public List<CompetitionResponse> findByOwner(UUID ownerId) {
         log.debug("Finding competitions for owner: {}", ownerId);
 
-        User owner = userRepository.findById(ownerId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        List<Competition> competitions = competitionRepository.findByOwnerIdWithOwner(ownerId);
 
-        List<Competition> competitions = competitionRepository.findByOwnerOrderByCreatedAtDesc(owner);
+        // Only pay for the user lookup when there is nothing to show
+        if (competitions.isEmpty() && !userRepository.existsById(ownerId)) {
+            throw new ResourceNotFoundException("User not found");
+        }
 
-        return competitions.stream()
-                .map(competition -> {
-                    List<Venue> venues = venueRepository.findByCompetition(competition);
-                    List<VenueResponse> venueResponses = venues.stream()
-                            .map(VenueResponse::fromEntity)
-                            .collect(Collectors.toList());
-                    int teamCount = (int) teamRepository.countRegisteredTeamsByCompetitionId(competition.getId());
-                    return CompetitionResponse.fromEntity(competition, venueResponses, teamCount);
-                })
-                .collect(Collectors.toList());
+        return toResponses(competitions);
     }
 
-    @Transactional(readOnly = true)
     public CompetitionResponse findById(UUID competitionId) {
+        return findVersionedById(competitionId).body();
+    }
+
+    // Not transactional: cache hits must not take a connection. The loader's queries each
+    // run in their own short read, and the owner is fetch-joined so nothing loads lazily.
+    // The version is cached with the body, so conditional GETs validate against exactly the
+    // representation being served rather than a fresher database row.
+    public VersionedResponse<CompetitionResponse> findVersionedById(UUID competitionId) {
         log.debug("Finding competition: {}", competitionId);
 
-        Competition competition = competitionRepository.findById(competitionId)
+        return competitionDetailCache.getOrLoad(competitionId, this::loadCompetition);
+    }
+
+    // Empty when the competition doesn't exist; callers then take the normal path and get a 404
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getCompetitionVersion(UUID competitionId) {
+        return competitionRepository.findVersionById(competitionId).stream()
+                .findFirst()
+                .map(row -> ResourceVersion.of("c", row[0], row[1], row[2]));
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getCompetitionTeamsVersion(UUID competitionId) {
+        Object[] row = teamRepository.findVersionByCompetitionId(competitionId).get(0);
+        return ResourceVersion.of("ct", row[0], row[1]);
+    }
+
+    public CompetitionResponse findByShareToken(String shareToken) {
+        log.debug("Finding competition by share token");
+
+        UUID competitionId = shareTokenResolver.resolve(shareToken)
                 .orElseThrow(() -> new ResourceNotFoundException("Competition not found"));
 
-        List<Venue> venues = venueRepository.findByCompetition(competition);
-        List<VenueResponse> venueResponses = venues.stream()
-                .map(VenueResponse::fromEntity)
-                .collect(Collectors.toList());
+        return findById(competitionId);
+    }
 
-        int teamCount = (int) teamRepository.countRegisteredTeamsByCompetitionId(competition.getId());
-        return CompetitionResponse.fromEntity(competition, venueResponses, teamCount);
+    private VersionedResponse<CompetitionResponse> loadCompetition(UUID competitionId) {
+        // Read first, so a write landing between the two reads only makes the body newer
+        ResourceVersion version = getCompetitionVersion(competitionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Competition not found"));
+        Competition competition = competitionRepository.findByIdWithOwner(competitionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Competition not found"));
+
+        return new VersionedResponse<>(toResponses(List.of(competition)).get(0), version);
     }
 
     private String generateShareToken() {
@@ -142,22 +180,82 @@ public class CompetitionService {
         return token.toString();
     }
 
-    public List<CompetitionResponse> findPublishedCompetitions() {
-        log.info("Finding all published competitions");
+    @Transactional(readOnly = true)
+    public CompetitionPageResponse findPublishedCompetitions(PublishedCompetitionsRequest request) {
+        log.debug("Finding published competitions: cursor={}, limit={}", request.getCursor(), request.getLimit());
+
+        CompetitionFeedCursor cursor = request.getCursor() != null
+                ? CompetitionFeedCursor.decode(request.getCursor())
+                : null;
+
+        Specification<Competition> spec = Specification.allOf(
+                CompetitionSpecifications.fetchOwner(),
+                CompetitionSpecifications.hasStatus(Competition.CompetitionStatus.PUBLISHED),
+                CompetitionSpecifications.publishedBefore(
+                        cursor != null ? cursor.publishedAt() : null,
+                        cursor != null ? cursor.id() : null),
+                CompetitionSpecifications.hasFormat(request.getFormat()),
+                CompetitionSpecifications.hasTeamSize(request.getTeamSize()),
+                CompetitionSpecifications.startsOnOrAfter(request.getStartFrom()),
+                CompetitionSpecifications.startsOnOrBefore(request.getStartTo()),
+                CompetitionSpecifications.entryFeeAtLeast(request.getMinFee()),
+                CompetitionSpecifications.entryFeeAtMost(request.getMaxFee())
+        );
+
+        // An empty ?limit= binds null over the field default
+        int limit = request.getLimit() != null ? request.getLimit() : PublishedCompetitionsRequest.DEFAULT_LIMIT;
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<Competition> competitions = competitionRepository.findBy(spec, query -> query
+                .sortBy(PUBLISHED_FEED_ORDER)
+                .limit(limit + 1)
+                .all());
+
+        boolean hasMore = competitions.size() > limit;
+        List<Competition> page = hasMore ? competitions.subList(0, limit) : competitions;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Competition last = page.get(page.size() - 1);
+            nextCursor = new CompetitionFeedCursor(last.getPublishedAt(), last.getId()).encode();
+        }
 
-        List<Competition> competitions = competitionRepository.findAll().stream()
-                .filter(c -> c.getStatus() == Competition.CompetitionStatus.PUBLISHED)
+        return CompetitionPageResponse.builder()
+                .items(toResponses(page))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // Assembles responses for a page of competitions with a fixed number of statements:
+    // one for venues and one grouped count of paid teams, regardless of how many rows are passed in.
+    // Callers must load competitions with their owner already fetched.
+    private List<CompetitionResponse> toResponses(List<Competition> competitions) {
+        if (competitions.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> competitionIds = competitions.stream()
+                .map(Competition::getId)
                 .collect(Collectors.toList());
 
+        Map<UUID, List<VenueResponse>> venuesByCompetition = venueRepository.findByCompetitionIdIn(competitionIds).stream()
+                .collect(Collectors.groupingBy(
+                        venue -> venue.getCompetition().getId(),
+                        Collectors.mapping(VenueResponse::fromEntity, Collectors.toList())
+                ));
+
+        Map<UUID, Integer> teamCounts = new HashMap<>();
+        for (Object[] row : teamRepository.countRegisteredTeamsByCompetitionIds(competitionIds)) {
+            teamCounts.put((UUID) row[0], ((Number) row[1]).intValue());
+        }
+
         return competitions.stream()
-                .map(competition -> {
-                    List<Venue> venues = venueRepository.findByCompetition(competition);
-                    List<VenueResponse> venueResponses = venues.stream()
-                            .map(VenueResponse::fromEntity)
-                            .collect(Collectors.toList());
-                    int teamCount = (int) teamRepository.countRegisteredTeamsByCompetitionId(competition.getId());
-                    return CompetitionResponse.fromEntity(competition, venueResponses, teamCount);
-                })
+                .map(competition -> CompetitionResponse.fromEntity(
+                        competition,
+                        venuesByCompetition.getOrDefault(competition.getId(), List.of()),
+                        teamCounts.getOrDefault(competition.getId(), 0)
+                ))
                 .collect(Collectors.toList());
     }
 
@@ -183,6 +281,7 @@ public class CompetitionService {
         competition.setStatus(Competition.CompetitionStatus.PUBLISHED);
         competition.setPublishedAt(Instant.now());
         competition = competitionRepository.save(competition);
+        competitionDetailCache.invalidateAfterCommit(competitionId);
 
         log.info("Competition published: competitionId={}, status={}", competitionId, competition.getStatus());
 
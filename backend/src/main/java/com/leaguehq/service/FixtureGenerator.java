@@ -0,0 +1,90 @@
+package com.leaguehq.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Pairings only; dates, times and venues are assigned by FixtureSlotPacker. Teams are
+// addressed by ordinal (0..teamCount-1); for knockout draws ordinal order is seed order.
+final class FixtureGenerator {
+
+    record Fixture(int round, int home, int away) {
+    }
+
+    private FixtureGenerator() {
+    }
+
+    // Circle method: one team stays fixed while the rest rotate, giving n-1 rounds in which
+    // every team plays at most once. An odd field gets a phantom opponent (a bye). Home and
+    // away alternate between rounds; the second leg mirrors the first with venues swapped.
+    static List<Fixture> roundRobin(int teamCount, boolean doubleRound) {
+        int size = teamCount % 2 == 0 ? teamCount : teamCount + 1;
+        int phantom = teamCount % 2 == 0 ? -1 : teamCount;
+        int rounds = size - 1;
+
+        int[] ring = new int[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = i;
+        }
+
+        int perRound = teamCount / 2;
+        List<Fixture> fixtures = new ArrayList<>(rounds * perRound * (doubleRound ? 2 : 1));
+        for (int round = 0; round < rounds; round++) {
+            for (int k = 0; k < size / 2; k++) {
+                int a = ring[k];
+                int b = ring[size - 1 - k];
+                if (a == phantom || b == phantom) {
+                    continue;
+                }
+                // The fixed team alternates by round. Rotating teams move one pair position per
+                // round, so orienting by position parity alternates them too.
+                boolean swap = k == 0 ? round % 2 == 1 : k % 2 == 1;
+                fixtures.add(swap ? new Fixture(round, b, a) : new Fixture(round, a, b));
+            }
+
+            int last = ring[size - 1];
+            System.arraycopy(ring, 1, ring, 2, size - 2);
+            ring[1] = last;
+        }
+
+        if (doubleRound) {
+            int firstLeg = fixtures.size();
+            for (int i = 0; i < firstLeg; i++) {
+                Fixture fixture = fixtures.get(i);
+                fixtures.add(new Fixture(fixture.round() + rounds, fixture.away(), fixture.home()));
+            }
+        }
+        return fixtures;
+    }
+
+    // First round of a seeded single-elimination bracket. The bracket is padded to a power of
+    // two with byes, which go to the top seeds; seeds are placed so 1 and 2 can only meet in
+    // the final (1v8, 4v5, 2v7, 3v6 for eight). Later rounds depend on results and are not
+    // generated. The higher seed is at home.
+    static List<Fixture> knockoutFirstRound(int teamCount) {
+        int bracket = Integer.highestOneBit(teamCount);
+        if (bracket < teamCount) {
+            bracket <<= 1;
+        }
+
+        int[] seeds = {1};
+        while (seeds.length < bracket) {
+            int[] next = new int[seeds.length * 2];
+            int sum = seeds.length * 2 + 1;
+            for (int i = 0; i < seeds.length; i++) {
+                next[2 * i] = seeds[i];
+                next[2 * i + 1] = sum - seeds[i];
+            }
+            seeds = next;
+        }
+
+        List<Fixture> fixtures = new ArrayList<>(bracket / 2);
+        for (int i = 0; i < bracket; i += 2) {
+            int high = Math.min(seeds[i], seeds[i + 1]);
+            int low = Math.max(seeds[i], seeds[i + 1]);
+            if (low <= teamCount) {
+                fixtures.add(new Fixture(0, high - 1, low - 1));
+            }
+        }
+        return fixtures;
+    }
+}
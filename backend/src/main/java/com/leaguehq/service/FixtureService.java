@@ -0,0 +1,195 @@
+package com.leaguehq.service;
+
+import com.leaguehq.dto.request.GenerateFixturesRequest;
+import com.leaguehq.dto.response.FixtureGenerationResponse;
+import com.leaguehq.exception.BadRequestException;
+import com.leaguehq.exception.ResourceNotFoundException;
+import com.leaguehq.model.Competition;
+import com.leaguehq.model.Match;
+import com.leaguehq.model.Venue;
+import com.leaguehq.repository.CompetitionRepository;
+import com.leaguehq.repository.MatchJdbcRepository;
+import com.leaguehq.repository.MatchRepository;
+import com.leaguehq.repository.TeamRepository;
+import com.leaguehq.repository.VenueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FixtureService {
+
+    private static final Set<DayOfWeek> DEFAULT_MATCH_DAYS = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+    private static final List<LocalTime> DEFAULT_KICKOFF_TIMES = List.of(LocalTime.of(10, 0));
+    private static final int DEFAULT_MIN_REST_DAYS = 1;
+
+    private final CompetitionRepository competitionRepository;
+    private final TeamRepository teamRepository;
+    private final VenueRepository venueRepository;
+    private final MatchRepository matchRepository;
+    private final MatchJdbcRepository matchJdbcRepository;
+    private final ScheduleConflictService scheduleConflictService;
+
+    // LEAGUE is a double round-robin (home and away), ROUND_ROBIN a single one, KNOCKOUT the
+    // seeded first round. Pairing and slot packing run in memory; the result is written in
+    // one JDBC batch.
+    @Transactional
+    public FixtureGenerationResponse generateFixtures(UUID competitionId, UUID userId, GenerateFixturesRequest request) {
+        Competition competition = competitionRepository.findByIdForUpdate(competitionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Competition not found"));
+
+        if (!competition.getOwner().getId().equals(userId)) {
+            throw new BadRequestException("You can only generate fixtures for your own competitions");
+        }
+
+        clearExistingFixtures(competitionId, Boolean.TRUE.equals(request.getReplaceExisting()));
+
+        List<UUID> teamIds = teamRepository.findRegisteredTeamIdsByCompetitionId(competitionId);
+        if (teamIds.size() < 2) {
+            throw new BadRequestException("At least two registered teams are needed to generate fixtures");
+        }
+
+        Competition.CompetitionFormat format = competition.getFormat();
+        List<FixtureGenerator.Fixture> fixtures;
+        List<UUID> byeTeamIds = List.of();
+        switch (format) {
+            case LEAGUE -> fixtures = FixtureGenerator.roundRobin(teamIds.size(), true);
+            case ROUND_ROBIN -> fixtures = FixtureGenerator.roundRobin(teamIds.size(), false);
+            case KNOCKOUT -> {
+                teamIds = seedOrder(teamIds, request.getSeedOrder());
+                fixtures = FixtureGenerator.knockoutFirstRound(teamIds.size());
+                byeTeamIds = byeTeams(teamIds, fixtures);
+            }
+            default -> throw new BadRequestException("Unsupported competition format: " + format);
+        }
+
+        List<UUID> venueIds = venueRepository.findByCompetitionId(competitionId).stream()
+                .sorted(Comparator.comparing(Venue::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Venue::getName))
+                .map(Venue::getId)
+                .toList();
+        List<LocalTime> kickoffTimes = request.getKickoffTimes() == null || request.getKickoffTimes().isEmpty()
+                ? DEFAULT_KICKOFF_TIMES
+                : request.getKickoffTimes().stream().distinct().sorted().toList();
+        Set<DayOfWeek> matchDays = request.getMatchDays() == null || request.getMatchDays().isEmpty()
+                ? DEFAULT_MATCH_DAYS
+                : request.getMatchDays();
+        int minRestDays = request.getMinRestDays() != null ? request.getMinRestDays() : DEFAULT_MIN_REST_DAYS;
+        int venueCount = Math.max(venueIds.size(), 1);
+
+        FixtureSlotPacker.Placement placement = FixtureSlotPacker.pack(fixtures, teamIds.size(),
+                competition.getStartDate(), competition.getEndDate(), matchDays,
+                kickoffTimes.size() * venueCount, minRestDays);
+        if (placement == null) {
+            throw new BadRequestException("Not enough match slots between " + competition.getStartDate() +
+                    " and " + competition.getEndDate() + " for " + fixtures.size() +
+                    " fixtures; add match days, kickoff times or venues, or reduce rest days");
+        }
+
+        List<MatchJdbcRepository.NewMatch> matches = new ArrayList<>(fixtures.size());
+        int lastDay = 0;
+        int firstDay = Integer.MAX_VALUE;
+        for (int i = 0; i < fixtures.size(); i++) {
+            FixtureGenerator.Fixture fixture = fixtures.get(i);
+            int day = placement.dayOffset()[i];
+            int slot = placement.slot()[i];
+            firstDay = Math.min(firstDay, day);
+            lastDay = Math.max(lastDay, day);
+
+            matches.add(new MatchJdbcRepository.NewMatch(
+                    UUID.randomUUID(),
+                    teamIds.get(fixture.home()),
+                    teamIds.get(fixture.away()),
+                    competition.getStartDate().plusDays(day),
+                    kickoffTimes.get(slot / venueCount),
+                    venueIds.isEmpty() ? null : venueIds.get(slot % venueCount)));
+        }
+        matchJdbcRepository.insertScheduled(competitionId, matches);
+        scheduleConflictService.invalidateAfterCommit(competitionId);
+
+        int rounds = fixtures.get(fixtures.size() - 1).round() + 1;
+        log.info("Fixtures generated: competitionId={}, format={}, teams={}, rounds={}, matches={}, requestedBy={}",
+                competitionId, format, teamIds.size(), rounds, matches.size(), userId);
+
+        return FixtureGenerationResponse.builder()
+                .competitionId(competitionId)
+                .format(format)
+                .rounds(rounds)
+                .matchesCreated(matches.size())
+                .firstMatchDate(competition.getStartDate().plusDays(firstDay))
+                .lastMatchDate(competition.getStartDate().plusDays(lastDay))
+                .byeTeamIds(byeTeamIds)
+                .build();
+    }
+
+    private void clearExistingFixtures(UUID competitionId, boolean replaceExisting) {
+        if (!matchRepository.existsByCompetitionId(competitionId)) {
+            return;
+        }
+        if (!replaceExisting) {
+            throw new BadRequestException("Fixtures already exist for this competition");
+        }
+        if (matchRepository.existsByCompetitionIdAndStatusNot(competitionId, Match.MatchStatus.SCHEDULED)) {
+            throw new BadRequestException("Fixtures cannot be replaced once matches have been played");
+        }
+
+        int deleted = matchRepository.deleteByCompetitionId(competitionId);
+        log.info("Existing fixtures removed: competitionId={}, matches={}", competitionId, deleted);
+    }
+
+    // Requested seeds first (must be registered teams), then any remaining teams in
+    // registration order
+    private List<UUID> seedOrder(List<UUID> registered, List<UUID> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return registered;
+        }
+
+        Set<UUID> registeredIds = new HashSet<>(registered);
+        Set<UUID> seen = new HashSet<>();
+        List<UUID> ordered = new ArrayList<>(registered.size());
+        for (UUID teamId : requested) {
+            if (!registeredIds.contains(teamId)) {
+                throw new BadRequestException("Seeded team is not registered in this competition: " + teamId);
+            }
+            if (seen.add(teamId)) {
+                ordered.add(teamId);
+            }
+        }
+        for (UUID teamId : registered) {
+            if (seen.add(teamId)) {
+                ordered.add(teamId);
+            }
+        }
+        return ordered;
+    }
+
+    private List<UUID> byeTeams(List<UUID> teamIds, List<FixtureGenerator.Fixture> fixtures) {
+        boolean[] playing = new boolean[teamIds.size()];
+        for (FixtureGenerator.Fixture fixture : fixtures) {
+            playing[fixture.home()] = true;
+            playing[fixture.away()] = true;
+        }
+
+        List<UUID> byes = new ArrayList<>();
+        for (int i = 0; i < playing.length; i++) {
+            if (!playing[i]) {
+                byes.add(teamIds.get(i));
+            }
+        }
+        return byes;
+    }
+}
@@ -0,0 +1,55 @@
+package com.leaguehq.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+// Greedy first-fit of fixtures into (day, kickoff, venue) slots between the competition's start
+// and end dates. Fixtures are taken in round order; each goes on the earliest match day that
+// has a free slot and on which both teams are rested. A team plays at most once per day, and
+// after playing on day d is next available on day d + 1 + minRestDays.
+final class FixtureSlotPacker {
+
+    // Slot assignment per fixture; slot = kickoffIndex * venueCount + venueIndex, so every
+    // venue is filled at one kickoff before the next kickoff is used
+    record Placement(int[] dayOffset, int[] slot) {
+    }
+
+    private FixtureSlotPacker() {
+    }
+
+    // Returns null when the window runs out before every fixture is placed
+    static Placement pack(List<FixtureGenerator.Fixture> fixtures, int teamCount,
+                          LocalDate startDate, LocalDate endDate, Set<DayOfWeek> matchDays,
+                          int slotsPerDay, int minRestDays) {
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        boolean[] playable = new boolean[days];
+        for (int d = 0; d < days; d++) {
+            playable[d] = matchDays.contains(startDate.plusDays(d).getDayOfWeek());
+        }
+
+        int[] used = new int[days];
+        int[] nextFree = new int[teamCount];
+        int[] dayOffset = new int[fixtures.size()];
+        int[] slot = new int[fixtures.size()];
+
+        for (int i = 0; i < fixtures.size(); i++) {
+            FixtureGenerator.Fixture fixture = fixtures.get(i);
+            int day = Math.max(nextFree[fixture.home()], nextFree[fixture.away()]);
+            while (day < days && (!playable[day] || used[day] == slotsPerDay)) {
+                day++;
+            }
+            if (day >= days) {
+                return null;
+            }
+
+            dayOffset[i] = day;
+            slot[i] = used[day]++;
+            nextFree[fixture.home()] = day + 1 + minRestDays;
+            nextFree[fixture.away()] = day + 1 + minRestDays;
+        }
+        return new Placement(dayOffset, slot);
+    }
+}
@@ -0,0 +1,8 @@
+package com.leaguehq.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Published inside the subscription transaction; dueAt is null when the grace period was cancelled
+public record GracePeriodTimerChangedEvent(UUID teamId, Instant dueAt) {
+}
@@ -0,0 +1,56 @@
+package com.leaguehq.service;
+
+import com.leaguehq.exception.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Decodes and re-encodes uploaded photos off the servlet threads. Pool and queue are small
+// and fixed, which also caps how many decoded rasters can be in memory at once; when the
+// queue is full the upload is refused with a 429 rather than queued without limit.
+@Component
+@Slf4j
+public class ImageProcessingExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public ImageProcessingExecutor(@Value("${photos.processing-threads:2}") int threads,
+                                   @Value("${photos.processing-queue-capacity:16}") int queueCapacity) {
+        AtomicInteger counter = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-processing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        log.info("Image processing pool initialized: threads={}, queueCapacity={}", threads, queueCapacity);
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Image processing pool saturated: active={}, queued={}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            return CompletableFuture.failedFuture(
+                    new TooManyRequestsException("Too many photo uploads in progress, please retry shortly"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
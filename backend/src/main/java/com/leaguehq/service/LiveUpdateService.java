@@ -0,0 +1,385 @@
+package com.leaguehq.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leaguehq.exception.ResourceNotFoundException;
+import com.leaguehq.exception.TooManyRequestsException;
+import com.leaguehq.repository.CompetitionRepository;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Per-competition fan-out of result and standings changes to SSE subscribers.
+//
+// Idle connections hold no thread: each stream is a Servlet async response written in
+// non-blocking mode. A write only happens while the output stream reports isReady(), so a
+// client that stops reading never pins a thread; its frames wait in a bounded queue and the
+// container calls back once the socket drains. Each event is encoded to an SSE frame once and
+// the same bytes are queued for every subscriber. A subscriber whose queue fills up, or whose
+// socket stays unwritable past the write timeout, is disconnected; EventSource clients
+// reconnect and re-read the table.
+//
+// The endpoint is public, so connections are capped per client address as well as in total.
+@Service
+@Slf4j
+public class LiveUpdateService {
+
+    private static final byte[] HEARTBEAT = frame(": heartbeat\n\n");
+
+    private final CompetitionRepository competitionRepository;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor executor;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final int maxSubscribersPerClient;
+    private final long emitterTimeoutMs;
+    private final long writeTimeoutNanos;
+    private final byte[] hello;
+
+    private final ConcurrentMap<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> subscribersByClient = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public LiveUpdateService(CompetitionRepository competitionRepository,
+                             ObjectMapper objectMapper,
+                             @Qualifier("liveUpdateExecutor") TaskExecutor executor,
+                             @Value("${live.buffer-size:32}") int bufferSize,
+                             @Value("${live.max-subscribers:10000}") int maxSubscribers,
+                             @Value("${live.max-subscribers-per-client:20}") int maxSubscribersPerClient,
+                             @Value("${live.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                             @Value("${live.write-timeout-ms:10000}") long writeTimeoutMs,
+                             @Value("${live.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+        this.competitionRepository = competitionRepository;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.maxSubscribersPerClient = maxSubscribersPerClient;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.writeTimeoutNanos = writeTimeoutMs * 1_000_000L;
+        this.hello = frame("retry: " + reconnectDelayMs + "\n: connected\n\n");
+    }
+
+    public void subscribe(UUID competitionId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!competitionRepository.existsById(competitionId)) {
+            throw new ResourceNotFoundException("Competition not found");
+        }
+
+        String client = request.getRemoteAddr();
+        AtomicInteger clientCount = subscribersByClient.computeIfAbsent(client, key -> new AtomicInteger());
+        if (clientCount.incrementAndGet() > maxSubscribersPerClient) {
+            releaseClientSlot(client);
+            throw new TooManyRequestsException("Too many live connections from this client");
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            releaseClientSlot(client);
+            throw new TooManyRequestsException("Too many live connections, please retry shortly");
+        }
+
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext async = request.startAsync(request, response);
+        async.setTimeout(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(competitionId, client, async, response.getOutputStream(),
+                new ArrayBlockingQueue<>(bufferSize), new AtomicBoolean(), new AtomicBoolean());
+
+        // compute/computeIfPresent keep add and empty-set removal atomic per competition
+        subscribers.compute(competitionId, (id, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+
+        async.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                remove(subscriber);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                disconnect(subscriber);
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                disconnect(subscriber);
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        subscriber.queue().offer(hello);
+        // The container calls onWritePossible once registered, which sends the hello frame
+        subscriber.out().setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() {
+                drain(subscriber);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("Live subscriber write failed: competitionId={}, error={}", competitionId, t.getMessage());
+                disconnect(subscriber);
+            }
+        });
+        // Writer-thread drains are skipped until the stream is in non-blocking mode; kick one
+        // now in case an event was queued in between
+        subscriber.startWriting();
+        schedule(subscriber);
+
+        log.debug("Live subscriber added: competitionId={}, total={}", competitionId, subscriberCount.get());
+    }
+
+    // After commit, so subscribers never see a result that was rolled back
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMatchResultChanged(MatchResultChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.competitionId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        byte[] result = event("match-result", event.match());
+        byte[] delta = event("standings-delta", event.standingsDeltas());
+        if (result == null || delta == null) {
+            return;
+        }
+
+        for (Subscriber subscriber : targets) {
+            if (enqueue(subscriber, result)) {
+                enqueue(subscriber, delta);
+            }
+        }
+    }
+
+    // Keeps proxies from closing idle streams, and drops subscribers whose socket has not been
+    // writable for longer than the write timeout
+    @Scheduled(fixedDelayString = "${live.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                long stalledSince = subscriber.stalledSince();
+                if (stalledSince != 0 && now - stalledSince > writeTimeoutNanos) {
+                    log.info("Dropping stalled live subscriber: competitionId={}", subscriber.competitionId());
+                    disconnect(subscriber);
+                } else {
+                    enqueue(subscriber, HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    private boolean enqueue(Subscriber subscriber, byte[] frame) {
+        if (!subscriber.queue().offer(frame)) {
+            log.info("Dropping slow live subscriber: competitionId={}", subscriber.competitionId());
+            disconnect(subscriber);
+            return false;
+        }
+
+        return schedule(subscriber);
+    }
+
+    // At most one drain task per subscriber is queued on the writer pool at a time
+    private boolean schedule(Subscriber subscriber) {
+        if (subscriber.scheduled().compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    subscriber.scheduled().set(false);
+                    if (subscriber.writing()) {
+                        drain(subscriber);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                subscriber.scheduled().set(false);
+                log.warn("Live writer pool saturated, dropping subscriber: competitionId={}", subscriber.competitionId());
+                disconnect(subscriber);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Runs on a writer thread after enqueue and on a container thread from onWritePossible; the
+    // lock keeps it single-writer. Never blocks: when the socket stops accepting bytes it returns
+    // and the container calls onWritePossible again once the client catches up.
+    private void drain(Subscriber subscriber) {
+        synchronized (subscriber) {
+            ServletOutputStream out = subscriber.out();
+            try {
+                while (out.isReady()) {
+                    byte[] frame = subscriber.queue().poll();
+                    if (frame == null) {
+                        if (subscriber.pendingFlush().compareAndSet(true, false)) {
+                            out.flush();
+                            continue;
+                        }
+                        subscriber.markWritable();
+                        return;
+                    }
+                    out.write(frame);
+                    subscriber.pendingFlush().set(true);
+                    subscriber.markWritable();
+                }
+                subscriber.markStalled(System.nanoTime());
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the stream is already closed
+                log.debug("Live subscriber write failed: competitionId={}, error={}", subscriber.competitionId(), e.getMessage());
+                disconnect(subscriber);
+            }
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        if (!remove(subscriber)) {
+            return;
+        }
+        subscriber.queue().clear();
+        try {
+            subscriber.async().complete();
+        } catch (IllegalStateException e) {
+            // Already completed by the container
+        }
+    }
+
+    // Returns false if the subscriber had already been removed
+    private boolean remove(Subscriber subscriber) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(subscriber.competitionId(), (id, set) -> {
+            if (set.remove(subscriber)) {
+                removed.set(true);
+            }
+            return set.isEmpty() ? null : set;
+        });
+        if (removed.get()) {
+            subscriberCount.decrementAndGet();
+            releaseClientSlot(subscriber.client());
+        }
+        return removed.get();
+    }
+
+    private void releaseClientSlot(String client) {
+        subscribersByClient.computeIfPresent(client, (key, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+
+    private byte[] event(String name, Object payload) {
+        try {
+            return frame("event: " + name + "\ndata: " + objectMapper.writeValueAsString(payload) + "\n\n");
+        } catch (JsonProcessingException e) {
+            log.error("Failed to encode live event: name={}, error={}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] frame(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class Subscriber {
+
+        private final UUID competitionId;
+        private final String client;
+        private final AsyncContext async;
+        private final ServletOutputStream out;
+        private final BlockingQueue<byte[]> queue;
+        private final AtomicBoolean scheduled;
+        private final AtomicBoolean pendingFlush;
+        // System.nanoTime() when the socket stopped accepting writes, 0 while writable
+        private volatile long stalledSince;
+        // Set once the write listener is registered; isReady() is only legal from then on
+        private volatile boolean writing;
+
+        Subscriber(UUID competitionId, String client, AsyncContext async, ServletOutputStream out,
+                   BlockingQueue<byte[]> queue, AtomicBoolean scheduled, AtomicBoolean pendingFlush) {
+            this.competitionId = competitionId;
+            this.client = client;
+            this.async = async;
+            this.out = out;
+            this.queue = queue;
+            this.scheduled = scheduled;
+            this.pendingFlush = pendingFlush;
+        }
+
+        UUID competitionId() {
+            return competitionId;
+        }
+
+        String client() {
+            return client;
+        }
+
+        AsyncContext async() {
+            return async;
+        }
+
+        ServletOutputStream out() {
+            return out;
+        }
+
+        BlockingQueue<byte[]> queue() {
+            return queue;
+        }
+
+        AtomicBoolean scheduled() {
+            return scheduled;
+        }
+
+        AtomicBoolean pendingFlush() {
+            return pendingFlush;
+        }
+
+        long stalledSince() {
+            return stalledSince;
+        }
+
+        void markStalled(long now) {
+            if (stalledSince == 0) {
+                stalledSince = now;
+            }
+        }
+
+        void markWritable() {
+            stalledSince = 0;
+        }
+
+        boolean writing() {
+            return writing;
+        }
+
+        void startWriting() {
+            writing = true;
+        }
+    }
+}
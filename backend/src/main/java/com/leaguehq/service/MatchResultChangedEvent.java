@@ -0,0 +1,13 @@
+package com.leaguehq.service;
+
+import com.leaguehq.dto.response.MatchResponse;
+import com.leaguehq.dto.response.StandingsDeltaResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+// Published inside the result transaction; listeners that push to clients run after commit
+public record MatchResultChangedEvent(UUID competitionId,
+                                      MatchResponse match,
+                                      List<StandingsDeltaResponse> standingsDeltas) {
+}
@@ -0,0 +1,319 @@
+package com.leaguehq.service;
+
+import com.leaguehq.dto.request.BatchResultRequest;
+import com.leaguehq.dto.request.MatchResultRequest;
+import com.leaguehq.dto.request.RescheduleMatchRequest;
+import com.leaguehq.dto.response.BatchResultResponse;
+import com.leaguehq.dto.response.MatchResponse;
+import com.leaguehq.dto.response.ScheduleConflictResponse;
+import com.leaguehq.dto.response.ScheduleValidationResponse;
+import com.leaguehq.exception.BadRequestException;
+import com.leaguehq.exception.ResourceNotFoundException;
+import com.leaguehq.model.Competition;
+import com.leaguehq.model.Match;
+import com.leaguehq.model.Venue;
+import com.leaguehq.repository.CompetitionRepository;
+import com.leaguehq.repository.MatchJdbcRepository;
+import com.leaguehq.repository.MatchRepository;
+import com.leaguehq.repository.UserRepository;
+import com.leaguehq.repository.VenueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MatchService {
+
+    private final MatchRepository matchRepository;
+    private final MatchJdbcRepository matchJdbcRepository;
+    private final UserRepository userRepository;
+    private final StandingsService standingsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CompetitionRepository competitionRepository;
+    private final VenueRepository venueRepository;
+    private final ScheduleConflictService scheduleConflictService;
+
+    // Enters a new result or corrects an existing one. Standings move by the difference
+    // between the old and new result.
+    @Transactional
+    public MatchResponse recordResult(UUID matchId, UUID userId, MatchResultRequest request) {
+        Match match = lockMatch(matchId, userId);
+
+        if (match.getStatus() == Match.MatchStatus.CANCELLED) {
+            throw new BadRequestException("Cannot record a result for a cancelled match");
+        }
+
+        ScoringRules scoring = ScoringRules.fromPolicy(match.getCompetition().getPolicy());
+        StandingsDelta homeBefore = homeDelta(match, scoring);
+        StandingsDelta awayBefore = awayDelta(match, scoring);
+        boolean correction = match.getStatus() == Match.MatchStatus.COMPLETED;
+
+        match.setHomeScore(request.getHomeScore());
+        match.setAwayScore(request.getAwayScore());
+        match.setStatus(Match.MatchStatus.COMPLETED);
+        match.setResultEnteredBy(userRepository.getReferenceById(userId));
+        match.setResultEnteredAt(Instant.now());
+
+        MatchResponse response = applyAndPublish(match,
+                homeDelta(match, scoring).minus(homeBefore),
+                awayDelta(match, scoring).minus(awayBefore));
+
+        log.info("Match result {}: matchId={}, score={}-{}, enteredBy={}",
+                correction ? "corrected" : "recorded", matchId, request.getHomeScore(), request.getAwayScore(), userId);
+
+        return response;
+    }
+
+    // End-of-matchday entry: one transaction, one JDBC batch for the match rows and one for
+    // the standings rows, with each team's changes summed first. Entries that cannot be applied
+    // are reported per match and do not fail the rest of the batch.
+    @Transactional
+    public BatchResultResponse recordResults(UUID competitionId, UUID userId, BatchResultRequest request) {
+        Competition competition = competitionRepository.findById(competitionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Competition not found"));
+        if (!competition.getOwner().getId().equals(userId)) {
+            throw new BadRequestException("You can only manage matches in your own competitions");
+        }
+
+        Set<UUID> matchIds = request.getResults().stream()
+                .map(BatchResultRequest.ResultEntry::getMatchId)
+                .collect(Collectors.toSet());
+        Map<UUID, Match> matches = matchRepository.findByCompetitionIdAndIdInForUpdate(competitionId, matchIds).stream()
+                .collect(Collectors.toMap(Match::getId, Function.identity()));
+
+        ScoringRules scoring = ScoringRules.fromPolicy(competition.getPolicy());
+        Instant enteredAt = Instant.now();
+        Set<UUID> seen = new HashSet<>();
+        List<MatchJdbcRepository.ResultUpdate> updates = new ArrayList<>();
+        Map<UUID, StandingsDelta> deltasByTeam = new HashMap<>();
+        List<MatchResultChangedEvent> events = new ArrayList<>();
+        List<BatchResultResponse.Outcome> outcomes = new ArrayList<>(request.getResults().size());
+
+        for (BatchResultRequest.ResultEntry entry : request.getResults()) {
+            Match match = matches.get(entry.getMatchId());
+            String rejection = null;
+            if (!seen.add(entry.getMatchId())) {
+                rejection = "Duplicate entry for this match in the batch";
+            } else if (match == null) {
+                rejection = "Match not found in this competition";
+            } else if (match.getStatus() == Match.MatchStatus.CANCELLED) {
+                rejection = "Cannot record a result for a cancelled match";
+            }
+            if (rejection != null) {
+                outcomes.add(BatchResultResponse.Outcome.builder()
+                        .matchId(entry.getMatchId())
+                        .outcome("REJECTED")
+                        .message(rejection)
+                        .build());
+                continue;
+            }
+
+            boolean correction = match.getStatus() == Match.MatchStatus.COMPLETED;
+            if (correction && Objects.equals(match.getHomeScore(), entry.getHomeScore())
+                    && Objects.equals(match.getAwayScore(), entry.getAwayScore())) {
+                outcomes.add(BatchResultResponse.Outcome.builder()
+                        .matchId(match.getId())
+                        .outcome("UNCHANGED")
+                        .match(MatchResponse.fromEntity(match))
+                        .build());
+                continue;
+            }
+
+            UUID homeTeamId = match.getHomeTeam().getId();
+            UUID awayTeamId = match.getAwayTeam().getId();
+            StandingsDelta homeChange = StandingsDelta.forResult(entry.getHomeScore(), entry.getAwayScore(), scoring)
+                    .minus(homeDelta(match, scoring));
+            StandingsDelta awayChange = StandingsDelta.forResult(entry.getAwayScore(), entry.getHomeScore(), scoring)
+                    .minus(awayDelta(match, scoring));
+            deltasByTeam.merge(homeTeamId, homeChange, StandingsDelta::plus);
+            deltasByTeam.merge(awayTeamId, awayChange, StandingsDelta::plus);
+            updates.add(new MatchJdbcRepository.ResultUpdate(match.getId(), entry.getHomeScore(), entry.getAwayScore()));
+
+            // The row is written by the batch below; the managed entity is left untouched so
+            // the flush does not issue a second UPDATE per match
+            MatchResponse response = MatchResponse.fromEntity(match);
+            response.setHomeScore(entry.getHomeScore());
+            response.setAwayScore(entry.getAwayScore());
+            response.setStatus(Match.MatchStatus.COMPLETED);
+            response.setResultEnteredAt(enteredAt);
+
+            events.add(new MatchResultChangedEvent(competitionId, response,
+                    List.of(homeChange.toResponse(homeTeamId), awayChange.toResponse(awayTeamId))));
+            outcomes.add(BatchResultResponse.Outcome.builder()
+                    .matchId(match.getId())
+                    .outcome(correction ? "CORRECTED" : "RECORDED")
+                    .match(response)
+                    .build());
+        }
+
+        if (!updates.isEmpty()) {
+            matchJdbcRepository.updateResults(updates, userId, enteredAt);
+            standingsService.applyResultChanges(competitionId, deltasByTeam);
+            events.forEach(eventPublisher::publishEvent);
+        }
+
+        int rejected = (int) outcomes.stream().filter(o -> "REJECTED".equals(o.getOutcome())).count();
+        log.info("Match results batch: competitionId={}, applied={}, rejected={}, enteredBy={}",
+                competitionId, updates.size(), rejected, userId);
+
+        return BatchResultResponse.builder()
+                .competitionId(competitionId)
+                .applied(updates.size())
+                .rejected(rejected)
+                .outcomes(outcomes)
+                .build();
+    }
+
+    // Removes a completed result; the match goes back to SCHEDULED
+    @Transactional
+    public MatchResponse voidResult(UUID matchId, UUID userId) {
+        Match match = lockMatch(matchId, userId);
+
+        if (match.getStatus() != Match.MatchStatus.COMPLETED) {
+            throw new BadRequestException("Match has no result to void");
+        }
+
+        ScoringRules scoring = ScoringRules.fromPolicy(match.getCompetition().getPolicy());
+        StandingsDelta homeBefore = homeDelta(match, scoring);
+        StandingsDelta awayBefore = awayDelta(match, scoring);
+
+        match.setHomeScore(null);
+        match.setAwayScore(null);
+        match.setStatus(Match.MatchStatus.SCHEDULED);
+        match.setResultEnteredBy(null);
+        match.setResultEnteredAt(null);
+
+        MatchResponse response = applyAndPublish(match,
+                StandingsDelta.ZERO.minus(homeBefore),
+                StandingsDelta.ZERO.minus(awayBefore));
+
+        log.info("Match result voided: matchId={}, voidedBy={}", matchId, userId);
+
+        return response;
+    }
+
+    // Dry run for the schedule editor: every team and venue booking the move would clash with
+    @Transactional(readOnly = true)
+    public ScheduleValidationResponse validateReschedule(UUID matchId, UUID userId, RescheduleMatchRequest request) {
+        Match match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new ResourceNotFoundException("Match not found"));
+        verifyOwner(match, userId);
+        resolveVenue(match, request.getVenueId());
+
+        List<ScheduleConflictResponse> conflicts = scheduleConflictService.findConflicts(
+                match, request.getMatchDate(), request.getMatchTime(), request.getVenueId());
+
+        return ScheduleValidationResponse.builder()
+                .matchId(matchId)
+                .valid(conflicts.isEmpty())
+                .conflicts(conflicts)
+                .build();
+    }
+
+    @Transactional
+    public MatchResponse rescheduleMatch(UUID matchId, UUID userId, RescheduleMatchRequest request) {
+        Match match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new ResourceNotFoundException("Match not found"));
+        verifyOwner(match, userId);
+
+        // Competition lock first: two moves into the same slot must not both pass the check
+        competitionRepository.findByIdForUpdate(match.getCompetition().getId());
+        match = lockMatch(matchId, userId);
+
+        if (match.getStatus() != Match.MatchStatus.SCHEDULED && match.getStatus() != Match.MatchStatus.POSTPONED) {
+            throw new BadRequestException("Only scheduled or postponed matches can be rescheduled");
+        }
+
+        // Checked against the database, not the cached index: under the lock every earlier move
+        // is visible, while the cache can still be missing moves committed moments ago. Only the
+        // two teams' and the venue's bookings around the date are read.
+        Venue venue = resolveVenue(match, request.getVenueId());
+        List<ScheduleConflictResponse> conflicts = scheduleConflictService.findConflictsForUpdate(
+                match, request.getMatchDate(), request.getMatchTime(), request.getVenueId());
+        if (!conflicts.isEmpty()) {
+            throw new BadRequestException("Reschedule conflicts with " + conflicts.size() + " existing booking(s)");
+        }
+
+        match.setMatchDate(request.getMatchDate());
+        match.setMatchTime(request.getMatchTime());
+        match.setVenue(venue);
+        match.setStatus(Match.MatchStatus.SCHEDULED);
+        scheduleConflictService.recordMoveAfterCommit(match);
+
+        log.info("Match rescheduled: matchId={}, date={}, time={}, venueId={}, userId={}",
+                matchId, request.getMatchDate(), request.getMatchTime(), request.getVenueId(), userId);
+
+        return MatchResponse.fromEntity(match);
+    }
+
+    private Venue resolveVenue(Match match, UUID venueId) {
+        if (venueId == null) {
+            return null;
+        }
+        Venue venue = venueRepository.findById(venueId)
+                .orElseThrow(() -> new ResourceNotFoundException("Venue not found"));
+        if (!venue.getCompetition().getId().equals(match.getCompetition().getId())) {
+            throw new BadRequestException("Venue does not belong to this competition");
+        }
+        return venue;
+    }
+
+    // Moves the table and announces the change to live subscribers once the transaction commits
+    private MatchResponse applyAndPublish(Match match, StandingsDelta homeChange, StandingsDelta awayChange) {
+        UUID competitionId = match.getCompetition().getId();
+        UUID homeTeamId = match.getHomeTeam().getId();
+        UUID awayTeamId = match.getAwayTeam().getId();
+
+        standingsService.applyResultChange(competitionId, homeTeamId, homeChange, awayTeamId, awayChange);
+
+        MatchResponse response = MatchResponse.fromEntity(match);
+        eventPublisher.publishEvent(new MatchResultChangedEvent(competitionId, response,
+                List.of(homeChange.toResponse(homeTeamId), awayChange.toResponse(awayTeamId))));
+        return response;
+    }
+
+    private Match lockMatch(UUID matchId, UUID userId) {
+        Match match = matchRepository.findByIdForUpdate(matchId)
+                .orElseThrow(() -> new ResourceNotFoundException("Match not found"));
+        verifyOwner(match, userId);
+        return match;
+    }
+
+    private void verifyOwner(Match match, UUID userId) {
+        Competition competition = match.getCompetition();
+        if (!competition.getOwner().getId().equals(userId)) {
+            throw new BadRequestException("You can only manage matches in your own competitions");
+        }
+    }
+
+    // Contribution of the match's current state to the home team's row (zero unless completed)
+    private StandingsDelta homeDelta(Match match, ScoringRules scoring) {
+        if (match.getStatus() != Match.MatchStatus.COMPLETED) {
+            return StandingsDelta.ZERO;
+        }
+        return StandingsDelta.forResult(match.getHomeScore(), match.getAwayScore(), scoring);
+    }
+
+    private StandingsDelta awayDelta(Match match, ScoringRules scoring) {
+        if (match.getStatus() != Match.MatchStatus.COMPLETED) {
+            return StandingsDelta.ZERO;
+        }
+        return StandingsDelta.forResult(match.getAwayScore(), match.getHomeScore(), scoring);
+    }
+}
@@ -0,0 +1,157 @@
+package com.leaguehq.service;
+
+import com.leaguehq.exception.BadRequestException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+// Photo normalization: decode once, then produce each variant (fitted within its maxDimension and
+// re-encoded as JPEG under its maxBytes) from the same decoded raster.
+//
+// The upload is read as a stream and decoded with source subsampling, so the full-resolution
+// raster of a large camera photo is never materialized: a 4000x3000 JPEG whose largest variant is
+// 800px is decoded at every 2nd pixel (2000x1500) before the final smooth downscale. Dimensions are
+// read from the header first and oversized images are refused before any pixel data is decoded.
+// Variants are derived largest first, each from the previous one, so the small renditions scale
+// an 800px image rather than the decoded one.
+final class PhotoResizer {
+
+    record Variant(String name, int maxDimension, int maxBytes) {
+    }
+
+    record Result(byte[] jpeg, int width, int height) {
+    }
+
+    private static final float[] QUALITY_STEPS = {0.85f, 0.75f, 0.65f, 0.55f};
+
+    private PhotoResizer() {
+    }
+
+    // variants must be ordered largest first; results come back in the same order
+    static List<Result> resize(InputStream content, List<Variant> variants, long maxPixels) throws IOException {
+        BufferedImage image = decodeSubsampled(content, variants.get(0).maxDimension(), maxPixels);
+
+        List<Result> results = new ArrayList<>(variants.size());
+        for (Variant variant : variants) {
+            image = fit(image, variant.maxDimension());
+            results.add(encode(variant, image));
+        }
+        return results;
+    }
+
+    private static Result encode(Variant variant, BufferedImage source) throws IOException {
+        BufferedImage image = source;
+        while (true) {
+            for (float quality : QUALITY_STEPS) {
+                byte[] jpeg = encodeJpeg(image, quality, variant.maxBytes());
+                if (jpeg.length <= variant.maxBytes()) {
+                    return new Result(jpeg, image.getWidth(), image.getHeight());
+                }
+            }
+            // Still too large at the lowest quality (very noisy images): shrink and retry
+            if (image.getWidth() <= 64 || image.getHeight() <= 64) {
+                throw new BadRequestException("Photo cannot be compressed to the size limit");
+            }
+            image = fit(image, Math.max(image.getWidth(), image.getHeight()) * 3 / 4);
+        }
+    }
+
+    private static BufferedImage decodeSubsampled(InputStream content, int maxDimension, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            if (input == null) {
+                throw new BadRequestException("Photo could not be read");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new BadRequestException("Photo must be a JPEG or PNG image");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new BadRequestException("Photo dimensions are too large");
+                }
+
+                // Keep at least twice the target resolution for a clean final downscale
+                int step = Math.max(1, Math.max(width, height) / (maxDimension * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Scales to fit within maxDimension onto an opaque RGB canvas (JPEG has no alpha; transparent
+    // PNG areas become white). Large reductions halve repeatedly first: a single bilinear pass
+    // samples only a few source pixels per target pixel and aliases badly beyond 2x.
+    private static BufferedImage fit(BufferedImage source, int maxDimension) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        if (scale == 1.0 && source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth * 2 && current.getHeight() / 2 >= targetHeight * 2) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image, float quality, int sizeHint) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.min(sizeHint, 256 * 1024));
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(buffer)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,311 @@
+package com.leaguehq.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leaguehq.dto.response.PlayerPhotoResponse;
+import com.leaguehq.exception.BadRequestException;
+import com.leaguehq.exception.ResourceNotFoundException;
+import com.leaguehq.model.Player;
+import com.leaguehq.repository.PlayerRepository;
+import com.leaguehq.storage.PhotoStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@Slf4j
+public class PlayerPhotoService {
+
+    private static final Set<String> ACCEPTED_TYPES = Set.of("image/jpeg", "image/jpg", "image/png");
+    private static final String FULL = "full";
+    private static final int MAX_STORE_ATTEMPTS = 3;
+
+    private final PlayerRepository playerRepository;
+    private final ObjectMapper objectMapper;
+    private final PhotoStorage photoStorage;
+    private final ImageProcessingExecutor imageProcessingExecutor;
+    private final TransactionTemplate transactionTemplate;
+    // Largest first, as PhotoResizer derives each variant from the previous one
+    private final List<PhotoResizer.Variant> variants;
+    private final long maxPixels;
+
+    public PlayerPhotoService(PlayerRepository playerRepository,
+                              ObjectMapper objectMapper,
+                              PhotoStorage photoStorage,
+                              ImageProcessingExecutor imageProcessingExecutor,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${photos.max-dimension:800}") int maxDimension,
+                              @Value("${photos.max-stored-bytes:500000}") int maxStoredBytes,
+                              @Value("${photos.card-dimension:320}") int cardDimension,
+                              @Value("${photos.card-max-bytes:80000}") int cardMaxBytes,
+                              @Value("${photos.thumb-dimension:128}") int thumbDimension,
+                              @Value("${photos.thumb-max-bytes:16000}") int thumbMaxBytes,
+                              @Value("${photos.max-pixels:40000000}") long maxPixels) {
+        this.playerRepository = playerRepository;
+        this.objectMapper = objectMapper;
+        this.photoStorage = photoStorage;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        // Always a new transaction: photo work runs on the image pool and after other commits
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.variants = List.of(
+                new PhotoResizer.Variant(FULL, maxDimension, maxStoredBytes),
+                new PhotoResizer.Variant("card", cardDimension, cardMaxBytes),
+                new PhotoResizer.Variant("thumb", thumbDimension, thumbMaxBytes));
+        this.maxPixels = maxPixels;
+    }
+
+    // Ownership and type checks run on the request thread; hashing, decoding, encoding and the
+    // storage writes run on the image pool. The multipart body is spooled to disk by the container
+    // and read from there as a stream, never as a byte[].
+    public CompletableFuture<PlayerPhotoResponse> uploadPhoto(UUID playerId, UUID userId, MultipartFile file) {
+        List<Object[]> rows = playerRepository.findCoachIdAndPhotoById(playerId);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("Player not found");
+        }
+        UUID coachId = (UUID) rows.get(0)[0];
+        String previousUrl = (String) rows.get(0)[1];
+        String previousHash = (String) rows.get(0)[2];
+        @SuppressWarnings("unchecked")
+        Map<String, String> previousVariants = (Map<String, String>) rows.get(0)[3];
+
+        if (!coachId.equals(userId)) {
+            throw new BadRequestException("You can only upload photos for players on your own teams");
+        }
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("Photo file is required");
+        }
+        if (file.getContentType() == null || !ACCEPTED_TYPES.contains(file.getContentType().toLowerCase())) {
+            throw new BadRequestException("Photo must be a JPEG or PNG image");
+        }
+
+        return imageProcessingExecutor.supplyAsync(() -> process(playerId, file, previousUrl, previousHash, previousVariants));
+    }
+
+    // The source bytes are hashed before anything is decoded. A re-upload of the player's current
+    // photo is a no-op, and a photo another player already has reuses that player's variants;
+    // only new images are decoded and written.
+    //
+    // Stored variants are shared by hash. Storage writes happen before the transaction and deletes
+    // after it, so the transaction only holds the hash lock for the reference check and the player
+    // update. The keys are content-addressed: a rolled-back upload leaves an orphan at worst, and a
+    // cleanup that removed the same keys after our writes shows up under the lock as a bumped
+    // photo_deletions count, in which case the variants are written again before the player points
+    // at them.
+    private PlayerPhotoResponse process(UUID playerId, MultipartFile file, String previousUrl,
+                                        String previousHash, Map<String, String> previousVariants) {
+        String hash = sha256(file);
+
+        if (hash.equals(previousHash)) {
+            log.info("Player photo unchanged: playerId={}, hash={}", playerId, hash);
+            Player player = playerRepository.findById(playerId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Player not found"));
+            PlayerPhotoResponse response = PlayerPhotoResponse.fromEntity(player);
+            response.setDeduplicated(true);
+            return response;
+        }
+
+        // Skipped when another player has the photo; the lock below confirms it
+        StoredPhoto stored = playerRepository.existsByPhotoHashAndIdNot(hash, playerId)
+                ? null
+                : storeVariants(playerId, hash, file);
+
+        for (int attempt = 1; ; attempt++) {
+            StoredPhoto written = stored;
+            PlayerPhotoResponse response = transactionTemplate.execute(status ->
+                    assignPhoto(playerId, hash, written, file.getSize(), previousUrl, previousHash, previousVariants));
+            if (response != null) {
+                return response;
+            }
+            if (attempt == MAX_STORE_ATTEMPTS) {
+                throw new IllegalStateException("Photo variants kept being removed while uploading: hash=" + hash);
+            }
+            stored = storeVariants(playerId, hash, file);
+        }
+    }
+
+    // Runs under the hash lock. Returns null when there is nothing safe to point the player at:
+    // no other player holds the photo and our writes are missing or may have been cleaned up since.
+    private PlayerPhotoResponse assignPhoto(UUID playerId, String hash, StoredPhoto stored, long originalBytes,
+                                            String previousUrl, String previousHash,
+                                            Map<String, String> previousVariants) {
+        lockPhotoHashes(hash);
+
+        Optional<Player> existing = playerRepository.findFirstByPhotoHashAndIdNot(hash, playerId);
+        Map<String, String> urls;
+        int storedBytes;
+        Integer width = null;
+        Integer height = null;
+        if (existing.isPresent()) {
+            urls = existing.get().getPhotoVariants();
+            storedBytes = existing.get().getPhotoSizeBytes();
+        } else if (stored == null || playerRepository.countPhotoDeletions(hash) != stored.deletionsBefore()) {
+            return null;
+        } else {
+            urls = stored.urls();
+            storedBytes = stored.storedBytes();
+            width = stored.width();
+            height = stored.height();
+        }
+
+        Instant uploadedAt = Instant.now();
+        String urlsJson;
+        try {
+            urlsJson = objectMapper.writeValueAsString(urls);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize photo variants", e);
+        }
+        playerRepository.updatePhoto(playerId, urls.get(FULL), storedBytes, hash, urlsJson, uploadedAt);
+        deleteAfterCommit(playerId, previousUrl, previousHash, previousVariants);
+
+        log.info("Player photo uploaded: playerId={}, hash={}, originalBytes={}, storedBytes={}, reused={}",
+                playerId, hash, originalBytes, storedBytes, existing.isPresent());
+
+        return PlayerPhotoResponse.builder()
+                .playerId(playerId)
+                .photoUrl(urls.get(FULL))
+                .photoSizeBytes(storedBytes)
+                .width(width)
+                .height(height)
+                .photoHash(hash)
+                .photoVariants(urls)
+                .deduplicated(existing.isPresent())
+                .photoUploadedAt(uploadedAt)
+                .build();
+    }
+
+    private StoredPhoto storeVariants(UUID playerId, String hash, MultipartFile file) {
+        List<PhotoResizer.Result> results = resize(playerId, file);
+
+        // Read before writing: a cleanup that commits after this point bumps the count, and one
+        // that committed before it had already finished deleting
+        long deletionsBefore = playerRepository.countPhotoDeletions(hash);
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            urls.put(variants.get(i).name(), store(hash, variants.get(i), results.get(i)));
+        }
+        PhotoResizer.Result full = results.get(0);
+        return new StoredPhoto(urls, full.jpeg().length, full.width(), full.height(), deletionsBefore);
+    }
+
+    private record StoredPhoto(Map<String, String> urls, int storedBytes, int width, int height,
+                               long deletionsBefore) {
+    }
+
+    private List<PhotoResizer.Result> resize(UUID playerId, MultipartFile file) {
+        try (InputStream content = file.getInputStream()) {
+            return PhotoResizer.resize(content, variants, maxPixels);
+        } catch (IOException e) {
+            log.warn("Photo decode failed: playerId={}, error={}", playerId, e.getMessage());
+            throw new BadRequestException("Photo could not be read");
+        }
+    }
+
+    // Sorted, so two uploads swapping photos between players take the locks in the same order
+    private void lockPhotoHashes(String... hashes) {
+        Arrays.stream(hashes)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .forEach(playerRepository::lockPhotoHash);
+    }
+
+    // Keys are derived from the source hash and the variant's configured size, so a given key always
+    // holds the same image and can be served with an immutable Cache-Control; resizing a variant in
+    // configuration produces new keys rather than stale cached images
+    private String store(String hash, PhotoResizer.Variant variant, PhotoResizer.Result result) {
+        String key = "players/" + hash + "/" + variant.name() + "-" + variant.maxDimension() + ".jpg";
+        try {
+            return photoStorage.put(key, new ByteArrayInputStream(result.jpeg()), result.jpeg().length,
+                    "image/jpeg", PhotoStorage.IMMUTABLE_CACHE_CONTROL);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store photo", e);
+        }
+    }
+
+    // Removes the stored photos of deleted players once the deletion commits
+    public void releasePhotosAfterCommit(List<Player> players) {
+        for (Player player : players) {
+            if (player.getPhotoUrl() != null) {
+                deleteAfterCommit(player.getId(), player.getPhotoUrl(), player.getPhotoHash(), player.getPhotoVariants());
+            }
+        }
+    }
+
+    // Storage deletes never run inside the caller's transaction: if it rolled back, the player would
+    // still point at them. Once it commits, the reference check is repeated under the hash lock in
+    // a transaction of its own.
+    private void deleteAfterCommit(UUID playerId, String url, String hash, Map<String, String> variants) {
+        if (url == null && variants == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                transactionTemplate.executeWithoutResult(status -> {
+                    lockPhotoHashes(hash);
+                    deleteIfUnreferenced(playerId, url, hash, variants);
+                });
+            }
+        });
+    }
+
+    // Variants are shared between players with the same photo, so they are only removed once no
+    // other player references the hash. Photos from before variants existed have a URL but no hash.
+    // Callers hold the hash lock, so no one can adopt the hash between the check and the delete,
+    // and an upload that wrote the same keys earlier sees the bumped count once it gets the lock.
+    private void deleteIfUnreferenced(UUID playerId, String url, String hash, Map<String, String> variants) {
+        if (hash == null || variants == null) {
+            if (url != null) {
+                photoStorage.deleteByUrl(url);
+            }
+            return;
+        }
+        if (playerRepository.existsByPhotoHashAndIdNot(hash, playerId)) {
+            return;
+        }
+        playerRepository.recordPhotoDeletion(hash);
+        variants.values().forEach(photoStorage::deleteByUrl);
+    }
+
+    private static String sha256(MultipartFile file) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        try (InputStream content = new DigestInputStream(file.getInputStream(), digest)) {
+            content.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new BadRequestException("Photo could not be read");
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,127 @@
+package com.leaguehq.service;
+
+import com.leaguehq.cache.BoundedTtlCache;
+import com.leaguehq.exception.UnauthorizedException;
+import com.leaguehq.model.RefreshToken;
+import com.leaguehq.model.User;
+import com.leaguehq.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+// Opaque, rotating refresh tokens. A refresh is one indexed lookup by token hash plus two
+// small writes; no password hashing is involved, so clients can renew short-lived access
+// tokens cheaply.
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    // Sessions revoked on this instance; access tokens carrying these ids are rejected
+    private final BoundedTtlCache<UUID, Boolean> revokedSessionCache;
+    private final Duration refreshTokenLifetime;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Qualifier("revokedSessionCache") BoundedTtlCache<UUID, Boolean> revokedSessionCache,
+                               @Value("${jwt.refresh-expiration-days:30}") long refreshExpirationDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedSessionCache = revokedSessionCache;
+        this.refreshTokenLifetime = Duration.ofDays(refreshExpirationDays);
+    }
+
+    public record IssuedToken(String token, UUID familyId, User user) {}
+
+    // Starts a new session (family) for a fresh login or signup
+    @Transactional
+    public IssuedToken issue(User user) {
+        return issue(user, UUID.randomUUID());
+    }
+
+    // Consumes the presented token and returns its successor. Presenting a token that was
+    // already consumed means it leaked (or was replayed), so the whole family is revoked.
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public IssuedToken rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashWithUser(hash(rawToken))
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+        Instant now = Instant.now();
+
+        if (current.getRevokedAt() != null || current.getExpiresAt().isBefore(now)) {
+            throw new UnauthorizedException("Refresh token expired or revoked");
+        }
+
+        if (current.getUsedAt() != null || refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+            revokeFamily(current.getFamilyId());
+            log.warn("Refresh token reuse detected, session revoked: userId={}, familyId={}",
+                    current.getUser().getId(), current.getFamilyId());
+            throw new UnauthorizedException("Refresh token already used; please sign in again");
+        }
+
+        return issue(current.getUser(), current.getFamilyId());
+    }
+
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> revokeFamily(token.getFamilyId()));
+    }
+
+    public boolean isSessionRevoked(UUID familyId) {
+        return revokedSessionCache.getIfPresent(familyId) != null;
+    }
+
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpiredBefore(Instant.now().minus(Duration.ofDays(1)));
+        if (deleted > 0) {
+            log.info("Deleted expired refresh tokens: count={}", deleted);
+        }
+    }
+
+    private IssuedToken issue(User user, UUID familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .expiresAt(Instant.now().plus(refreshTokenLifetime))
+                .build();
+        refreshTokenRepository.save(token);
+
+        return new IssuedToken(rawToken, familyId, user);
+    }
+
+    private void revokeFamily(UUID familyId) {
+        refreshTokenRepository.revokeFamily(familyId, Instant.now());
+        revokedSessionCache.put(familyId, Boolean.TRUE);
+    }
+
+    // Tokens carry 256 bits of randomness, so a fast unsalted digest is sufficient
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.leaguehq.service;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// Validators for conditional GETs, computed from cheap aggregate queries so a matching
+// If-None-Match / If-Modified-Since can be answered without hydrating entities
+public record ResourceVersion(String etag, Instant lastModified) {
+
+    // Strong ETag built from the given parts; the latest non-null instant becomes Last-Modified
+    public static ResourceVersion of(Object... parts) {
+        Instant lastModified = Arrays.stream(parts)
+                .filter(Instant.class::isInstance)
+                .map(Instant.class::cast)
+                .max(Instant::compareTo)
+                .orElse(Instant.EPOCH);
+
+        String tag = Arrays.stream(parts)
+                .map(part -> part instanceof Instant instant
+                        ? Long.toHexString(instant.getEpochSecond()) + "." + Integer.toHexString(instant.getNano())
+                        : Objects.toString(part, "-"))
+                .collect(Collectors.joining("-"));
+
+        return new ResourceVersion("\"" + tag + "\"", lastModified);
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified.toEpochMilli();
+    }
+}
@@ -0,0 +1,125 @@
+package com.leaguehq.service;
+
+import com.leaguehq.dto.request.PlayerRequest;
+import com.leaguehq.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Roster CSV import. The first line is a header naming the columns in any order:
+// full_name (or name), jersey_number (or jersey, number) and position; only full_name is
+// required. Fields may be double-quoted, with "" as an escaped quote. Blank lines are skipped.
+final class RosterCsvParser {
+
+    private RosterCsvParser() {
+    }
+
+    // Returned rows keep their CSV line number for error messages
+    record Row(int line, PlayerRequest player) {
+    }
+
+    static List<Row> parse(String csv, int maxRows) {
+        if (csv == null || csv.isBlank()) {
+            throw new BadRequestException("CSV body is empty");
+        }
+
+        String[] lines = csv.split("\r?\n", -1);
+        int headerLine = 0;
+        while (headerLine < lines.length && lines[headerLine].isBlank()) {
+            headerLine++;
+        }
+
+        List<String> header = splitLine(stripBom(lines[headerLine]), headerLine + 1);
+        int nameColumn = -1;
+        int jerseyColumn = -1;
+        int positionColumn = -1;
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "full_name", "name" -> nameColumn = i;
+                case "jersey_number", "jersey", "number" -> jerseyColumn = i;
+                case "position" -> positionColumn = i;
+                default -> throw new BadRequestException("Unknown CSV column: " + header.get(i).trim());
+            }
+        }
+        if (nameColumn < 0) {
+            throw new BadRequestException("CSV header must include full_name");
+        }
+
+        List<Row> rows = new ArrayList<>();
+        for (int i = headerLine + 1; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            if (rows.size() == maxRows) {
+                throw new BadRequestException("At most " + maxRows + " players per batch");
+            }
+            int line = i + 1;
+            List<String> fields = splitLine(lines[i], line);
+            if (fields.size() != header.size()) {
+                throw new BadRequestException("Line " + line + ": expected " + header.size() + " fields, found " + fields.size());
+            }
+
+            PlayerRequest player = new PlayerRequest();
+            player.setFullName(fields.get(nameColumn).trim());
+            if (jerseyColumn >= 0) {
+                player.setJerseyNumber(parseJersey(fields.get(jerseyColumn).trim(), line));
+            }
+            if (positionColumn >= 0 && !fields.get(positionColumn).isBlank()) {
+                player.setPosition(fields.get(positionColumn).trim());
+            }
+            rows.add(new Row(line, player));
+        }
+        if (rows.isEmpty()) {
+            throw new BadRequestException("At least one player is required");
+        }
+        return rows;
+    }
+
+    private static Integer parseJersey(String value, int line) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Line " + line + ": jersey number must be a whole number");
+        }
+    }
+
+    private static List<String> splitLine(String line, int lineNumber) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new BadRequestException("Line " + lineNumber + ": unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+}
@@ -0,0 +1,173 @@
+package com.leaguehq.service;
+
+import com.leaguehq.model.Competition;
+import com.leaguehq.model.Competition.CompetitionStatus;
+import com.leaguehq.repository.CompetitionRepository;
+import com.leaguehq.repository.TeamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+// Locks rosters at the instant policy.roster.lock_at resolves to. Upcoming lock instants sit in
+// a min-heap ordered by time, so each tick only peeks at the head; when an instant passes, all
+// of that competition's open rosters are locked with one UPDATE.
+//
+// The heap is rebuilt from competitions on boot, so restarts lose nothing: instants that passed
+// while the app was down fire on the first tick. A periodic resync picks up competitions created
+// through other instances and teams that registered after their competition's lock fired.
+// Locking is idempotent, so several instances firing the same entry is harmless.
+@Component
+@Slf4j
+public class RosterLockScheduler {
+
+    private static final Set<CompetitionStatus> SCHEDULED_STATUSES =
+            EnumSet.of(CompetitionStatus.DRAFT, CompetitionStatus.PUBLISHED, CompetitionStatus.ACTIVE);
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private record Entry(Instant lockAt, UUID competitionId) {
+    }
+
+    private final CompetitionRepository competitionRepository;
+    private final TeamRepository teamRepository;
+    private final ZoneId zone;
+
+    // Superseded entries stay in the heap and are skipped when they surface: an entry is live
+    // only while it matches the competition's current instant in `scheduled`
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(
+            (a, b) -> a.lockAt().compareTo(b.lockAt()));
+    private final Map<UUID, Instant> scheduled = new HashMap<>();
+
+    public RosterLockScheduler(CompetitionRepository competitionRepository,
+                               TeamRepository teamRepository,
+                               @Value("${roster-lock.zone:UTC}") String zone) {
+        this.competitionRepository = competitionRepository;
+        this.teamRepository = teamRepository;
+        this.zone = ZoneId.of(zone);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int queued = rebuild();
+        log.info("Roster lock queue loaded: competitions={}", queued);
+    }
+
+    @Scheduled(initialDelayString = "${roster-lock.resync-interval-ms:900000}",
+               fixedDelayString = "${roster-lock.resync-interval-ms:900000}")
+    public void resync() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to resync roster lock queue: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${roster-lock.poll-interval-ms:1000}")
+    public void fireDue() {
+        Instant now = Instant.now();
+        for (UUID competitionId : pollDue(now)) {
+            try {
+                int locked = teamRepository.lockRostersByCompetitionId(competitionId, now);
+                log.info("Rosters locked: competitionId={}, teams={}", competitionId, locked);
+            } catch (Exception e) {
+                log.error("Failed to lock rosters: competitionId={}, error={}", competitionId, e.getMessage());
+                schedule(competitionId, now.plus(RETRY_DELAY));
+            }
+        }
+    }
+
+    // Queues (or moves) a competition's lock once the caller's transaction commits
+    public void scheduleAfterCommit(Competition competition) {
+        UUID competitionId = competition.getId();
+        Optional<Instant> lockAt = RosterRules.fromPolicy(competition.getPolicy())
+                .lockInstant(competition.getStartDate(), competition.getRegistrationDeadline(), zone);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (lockAt.isPresent()) {
+                    schedule(competitionId, lockAt.get());
+                } else {
+                    unschedule(competitionId);
+                }
+            }
+        });
+    }
+
+    // The queue fires up to a poll interval late and only learns of new teams on the next resync,
+    // so write paths check the instant themselves rather than relying on the locked flag alone
+    public boolean isPastLock(Competition competition, Instant now) {
+        return RosterRules.fromPolicy(competition.getPolicy())
+                .lockInstant(competition.getStartDate(), competition.getRegistrationDeadline(), zone)
+                .map(lockAt -> !lockAt.isAfter(now))
+                .orElse(false);
+    }
+
+    private synchronized void schedule(UUID competitionId, Instant lockAt) {
+        if (lockAt.equals(scheduled.put(competitionId, lockAt))) {
+            return;
+        }
+        queue.add(new Entry(lockAt, competitionId));
+    }
+
+    private synchronized void unschedule(UUID competitionId) {
+        scheduled.remove(competitionId);
+    }
+
+    private synchronized List<UUID> pollDue(Instant now) {
+        List<UUID> due = new ArrayList<>();
+        while (!queue.isEmpty() && !queue.peek().lockAt().isAfter(now)) {
+            Entry entry = queue.poll();
+            if (entry.lockAt().equals(scheduled.get(entry.competitionId()))) {
+                scheduled.remove(entry.competitionId());
+                due.add(entry.competitionId());
+            }
+        }
+        return due;
+    }
+
+    // Upserts rather than replaces, so schedule() calls racing the query aren't lost. Instants
+    // already in the past are only queued while the competition still has open rosters.
+    private int rebuild() {
+        Instant now = Instant.now();
+        Map<UUID, Instant> upcoming = new HashMap<>();
+        Map<UUID, Instant> overdue = new HashMap<>();
+
+        for (Object[] row : competitionRepository.findRosterLockScheduleByStatusIn(SCHEDULED_STATUSES)) {
+            UUID competitionId = (UUID) row[0];
+            @SuppressWarnings("unchecked")
+            Map<String, Object> policy = (Map<String, Object>) row[3];
+            RosterRules.fromPolicy(policy)
+                    .lockInstant((LocalDate) row[1], (LocalDate) row[2], zone)
+                    .ifPresent(lockAt -> (lockAt.isAfter(now) ? upcoming : overdue).put(competitionId, lockAt));
+        }
+
+        if (!overdue.isEmpty()) {
+            Set<UUID> open = new HashSet<>(teamRepository.findCompetitionIdsWithOpenRosters(overdue.keySet()));
+            overdue.keySet().retainAll(open);
+        }
+
+        upcoming.putAll(overdue);
+        upcoming.forEach(this::schedule);
+        return upcoming.size();
+    }
+}
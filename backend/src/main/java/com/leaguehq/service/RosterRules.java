@@ -0,0 +1,43 @@
+package com.leaguehq.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+
+// Roster limits from competition.policy.roster
+public record RosterRules(int minSize, int maxSize, String lockAt) {
+
+    public static final RosterRules DEFAULT = new RosterRules(8, 20, "competition_start");
+
+    @SuppressWarnings("unchecked")
+    public static RosterRules fromPolicy(Map<String, Object> policy) {
+        if (policy == null || !(policy.get("roster") instanceof Map<?, ?> roster)) {
+            return DEFAULT;
+        }
+        Map<String, Object> values = (Map<String, Object>) roster;
+        return new RosterRules(
+                intOrDefault(values.get("min_size"), DEFAULT.minSize()),
+                intOrDefault(values.get("max_size"), DEFAULT.maxSize()),
+                values.get("lock_at") instanceof String lockAt ? lockAt : DEFAULT.lockAt()
+        );
+    }
+
+    // When rosters lock under lock_at: the start of the competition's first day, or the end of
+    // the registration deadline day (registration stays open through that date). Any other
+    // value (e.g. "manual") means rosters are never locked automatically.
+    public Optional<Instant> lockInstant(LocalDate startDate, LocalDate registrationDeadline, ZoneId zone) {
+        return switch (lockAt) {
+            case "competition_start" -> Optional.ofNullable(startDate)
+                    .map(date -> date.atStartOfDay(zone).toInstant());
+            case "registration_deadline" -> Optional.ofNullable(registrationDeadline)
+                    .map(date -> date.plusDays(1).atStartOfDay(zone).toInstant());
+            default -> Optional.empty();
+        };
+    }
+
+    private static int intOrDefault(Object value, int fallback) {
+        return value instanceof Number number ? number.intValue() : fallback;
+    }
+}
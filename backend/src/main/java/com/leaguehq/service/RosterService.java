@@ -0,0 +1,217 @@
+package com.leaguehq.service;
+
+import com.leaguehq.dto.request.PlayerRequest;
+import com.leaguehq.dto.response.PlayerResponse;
+import com.leaguehq.exception.BadRequestException;
+import com.leaguehq.exception.ResourceNotFoundException;
+import com.leaguehq.model.Player;
+import com.leaguehq.model.Team;
+import com.leaguehq.repository.PlayerJdbcRepository;
+import com.leaguehq.repository.PlayerRepository;
+import com.leaguehq.repository.TeamRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Roster changes lock the team row first, then validate against a single prefetch of the
+// current jersey numbers: roster size and number clashes (with existing players and within
+// the request) are checked in memory, and new players go out as one batched INSERT.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RosterService {
+
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final PlayerJdbcRepository playerJdbcRepository;
+    private final PlayerPhotoService playerPhotoService;
+    private final RosterLockScheduler rosterLockScheduler;
+    private final Validator validator;
+
+    @Transactional(readOnly = true)
+    public List<PlayerResponse> getRoster(UUID teamId, UUID userId) {
+        Team team = teamRepository.findByIdWithDetails(teamId)
+                .orElseThrow(() -> new ResourceNotFoundException("Team not found"));
+
+        if (!team.getCoach().getId().equals(userId) && !team.getCompetition().getOwner().getId().equals(userId)) {
+            throw new BadRequestException("You can only view rosters of your own teams or competitions");
+        }
+
+        return playerRepository.findRosterByTeamId(teamId).stream()
+                .map(PlayerResponse::fromEntity)
+                .toList();
+    }
+
+    @Transactional
+    public PlayerResponse addPlayer(UUID teamId, UUID userId, PlayerRequest request) {
+        return addPlayers(teamId, userId, List.of(request)).get(0);
+    }
+
+    @Transactional
+    public List<PlayerResponse> addPlayers(UUID teamId, UUID userId, List<PlayerRequest> requests) {
+        Team team = lockTeam(teamId, userId);
+        requireOpenRoster(team);
+
+        List<Integer> existing = playerRepository.findJerseyNumbersByTeamId(teamId);
+        RosterRules rules = RosterRules.fromPolicy(team.getCompetition().getPolicy());
+        if (existing.size() + requests.size() > rules.maxSize()) {
+            throw new BadRequestException("Roster cannot exceed " + rules.maxSize() + " players (currently "
+                    + existing.size() + ", adding " + requests.size() + ")");
+        }
+
+        boolean[] taken = new boolean[100];
+        for (Integer number : existing) {
+            if (number != null) {
+                taken[number] = true;
+            }
+        }
+
+        List<PlayerJdbcRepository.NewPlayer> players = new ArrayList<>(requests.size());
+        for (PlayerRequest request : requests) {
+            Integer number = request.getJerseyNumber();
+            if (number != null) {
+                if (taken[number]) {
+                    throw new BadRequestException("Jersey number " + number + " is already taken");
+                }
+                taken[number] = true;
+            }
+            players.add(new PlayerJdbcRepository.NewPlayer(UUID.randomUUID(),
+                    request.getFullName().trim(), number, trimToNull(request.getPosition())));
+        }
+
+        Instant now = Instant.now();
+        try {
+            playerJdbcRepository.insertAll(teamId, players, now);
+        } catch (DataIntegrityViolationException e) {
+            // The team lock makes this unreachable for writers that go through this service
+            throw new BadRequestException("Jersey number is already taken");
+        }
+
+        log.info("Players added: teamId={}, count={}, rosterSize={}", teamId, players.size(), existing.size() + players.size());
+
+        return players.stream()
+                .map(player -> PlayerResponse.builder()
+                        .id(player.id())
+                        .teamId(teamId)
+                        .fullName(player.fullName())
+                        .jerseyNumber(player.jerseyNumber())
+                        .position(player.position())
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build())
+                .toList();
+    }
+
+    // CSV rows are validated with the same constraints as the JSON request, reported by line
+    @Transactional
+    public List<PlayerResponse> importCsv(UUID teamId, UUID userId, String csv) {
+        List<RosterCsvParser.Row> rows = RosterCsvParser.parse(csv, MAX_BATCH_SIZE);
+
+        List<PlayerRequest> requests = new ArrayList<>(rows.size());
+        for (RosterCsvParser.Row row : rows) {
+            Set<ConstraintViolation<PlayerRequest>> violations = validator.validate(row.player());
+            if (!violations.isEmpty()) {
+                throw new BadRequestException("Line " + row.line() + ": " + violations.iterator().next().getMessage());
+            }
+            requests.add(row.player());
+        }
+
+        return addPlayers(teamId, userId, requests);
+    }
+
+    @Transactional
+    public PlayerResponse updatePlayer(UUID playerId, UUID userId, PlayerRequest request) {
+        Player player = playerRepository.findById(playerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Player not found"));
+        UUID teamId = player.getTeam().getId();
+        Team team = lockTeam(teamId, userId);
+        requireOpenRoster(team);
+
+        Integer number = request.getJerseyNumber();
+        if (number != null && !number.equals(player.getJerseyNumber())) {
+            playerRepository.findByTeamIdAndJerseyNumber(teamId, number)
+                    .filter(other -> !other.getId().equals(playerId))
+                    .ifPresent(other -> {
+                        throw new BadRequestException("Jersey number " + number + " is already taken");
+                    });
+        }
+
+        // Column-scoped update, so a photo upload finishing concurrently isn't overwritten; the
+        // loaded entity is left untouched so nothing is flushed back over it
+        PlayerResponse response = PlayerResponse.fromEntity(player);
+        response.setFullName(request.getFullName().trim());
+        response.setJerseyNumber(number);
+        response.setPosition(trimToNull(request.getPosition()));
+        response.setUpdatedAt(Instant.now());
+        playerRepository.updateDetails(playerId, response.getFullName(), number, response.getPosition(), response.getUpdatedAt());
+
+        log.info("Player updated: playerId={}, teamId={}", playerId, teamId);
+
+        return response;
+    }
+
+    @Transactional
+    public void deletePlayer(UUID playerId, UUID userId) {
+        UUID teamId = playerRepository.findById(playerId)
+                .map(player -> player.getTeam().getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Player not found"));
+
+        deletePlayers(teamId, userId, List.of(playerId));
+    }
+
+    // One DELETE for the whole set; ids that aren't on this team are rejected rather than skipped
+    @Transactional
+    public int deletePlayers(UUID teamId, UUID userId, Collection<UUID> playerIds) {
+        Team team = lockTeam(teamId, userId);
+        requireOpenRoster(team);
+
+        Set<UUID> ids = new LinkedHashSet<>(playerIds);
+        List<Player> players = playerRepository.findByTeamIdAndIdIn(teamId, ids);
+        if (players.size() != ids.size()) {
+            throw new ResourceNotFoundException("Player not found on this team");
+        }
+
+        int deleted = playerRepository.deleteByTeamIdAndIdIn(teamId, ids);
+        playerPhotoService.releasePhotosAfterCommit(players);
+
+        log.info("Players deleted: teamId={}, count={}", teamId, deleted);
+        return deleted;
+    }
+
+    // The flag is set by the lock scheduler, which can lag the lock instant (e.g. for a team that
+    // registered after its competition's lock fired), so the instant is checked as well
+    private void requireOpenRoster(Team team) {
+        if (Boolean.TRUE.equals(team.getRosterLocked())
+                || rosterLockScheduler.isPastLock(team.getCompetition(), Instant.now())) {
+            throw new BadRequestException("Roster is locked");
+        }
+    }
+
+    private Team lockTeam(UUID teamId, UUID userId) {
+        Team team = teamRepository.findByIdForUpdate(teamId)
+                .orElseThrow(() -> new ResourceNotFoundException("Team not found"));
+
+        if (!team.getCoach().getId().equals(userId)) {
+            throw new BadRequestException("You can only manage rosters of your own teams");
+        }
+        return team;
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,114 @@
+package com.leaguehq.service;
+
+import com.leaguehq.cache.BoundedTtlCache;
+import com.leaguehq.dto.response.ScheduleConflictResponse;
+import com.leaguehq.model.Match;
+import com.leaguehq.repository.MatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+// Clash detection for match edits. Each competition's index is built on first use from one
+// scalar query and then kept current by the write paths: moves are applied after commit,
+// bulk changes (fixture generation) drop the index so the next check rebuilds it. The cache
+// TTL bounds how long another instance's writes can go unseen, so the cached index only
+// answers dry runs. Writes check under their lock against the few bookings that can clash,
+// read from the database with one indexed query.
+@Service
+@Slf4j
+public class ScheduleConflictService {
+
+    // Statuses whose matches still occupy their slot
+    private static final List<Match.MatchStatus> BOOKED_STATUSES = List.of(
+            Match.MatchStatus.SCHEDULED,
+            Match.MatchStatus.IN_PROGRESS,
+            Match.MatchStatus.COMPLETED,
+            Match.MatchStatus.DISPUTED);
+
+    private final MatchRepository matchRepository;
+    private final BoundedTtlCache<UUID, CompetitionSchedule> scheduleIndexCache;
+    private final long matchMinutes;
+
+    public ScheduleConflictService(MatchRepository matchRepository,
+                                   @Qualifier("scheduleIndexCache") BoundedTtlCache<UUID, CompetitionSchedule> scheduleIndexCache,
+                                   @Value("${schedule.match-duration-minutes:90}") long matchMinutes) {
+        this.matchRepository = matchRepository;
+        this.scheduleIndexCache = scheduleIndexCache;
+        this.matchMinutes = matchMinutes;
+    }
+
+    // Dry run against the cached index; may miss moves made moments ago, mostly on other instances
+    public List<ScheduleConflictResponse> findConflicts(Match match, LocalDate date, LocalTime time, UUID venueId) {
+        UUID competitionId = match.getCompetition().getId();
+        return conflicts(scheduleIndexCache.getOrLoad(competitionId, this::load), match, date, time, venueId);
+    }
+
+    // Authoritative check for a write. The caller must hold the competition row lock: every move
+    // committed before it is then visible, and no other move can commit until the caller does.
+    // Only bookings of the two teams and the venue from the day before to the day after can
+    // overlap (a booking is at most a day long), so only those are read.
+    public List<ScheduleConflictResponse> findConflictsForUpdate(Match match, LocalDate date, LocalTime time, UUID venueId) {
+        List<Object[]> rows = matchRepository.findScheduleNearSlot(match.getCompetition().getId(), BOOKED_STATUSES,
+                date.minusDays(1), date.plusDays(1),
+                List.of(match.getHomeTeam().getId(), match.getAwayTeam().getId()), venueId);
+        return conflicts(toSchedule(rows), match, date, time, venueId);
+    }
+
+    private List<ScheduleConflictResponse> conflicts(CompetitionSchedule schedule, Match match,
+                                                     LocalDate date, LocalTime time, UUID venueId) {
+        return schedule.conflicts(match.getId(), match.getHomeTeam().getId(), match.getAwayTeam().getId(),
+                        venueId, date, time).stream()
+                .map(ScheduleConflictResponse::fromConflict)
+                .toList();
+    }
+
+    // Applies a move to the cached index once the caller's transaction commits
+    public void recordMoveAfterCommit(Match match) {
+        UUID competitionId = match.getCompetition().getId();
+        UUID matchId = match.getId();
+        UUID homeTeamId = match.getHomeTeam().getId();
+        UUID awayTeamId = match.getAwayTeam().getId();
+        UUID venueId = match.getVenue() != null ? match.getVenue().getId() : null;
+        LocalDate date = match.getMatchDate();
+        LocalTime time = match.getMatchTime();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                CompetitionSchedule schedule = scheduleIndexCache.getIfPresent(competitionId);
+                if (schedule != null) {
+                    schedule.put(matchId, homeTeamId, awayTeamId, venueId, date, time);
+                }
+            }
+        });
+    }
+
+    public void invalidateAfterCommit(UUID competitionId) {
+        scheduleIndexCache.invalidateAfterCommit(competitionId);
+    }
+
+    private CompetitionSchedule load(UUID competitionId) {
+        List<Object[]> rows = matchRepository.findScheduleByCompetitionId(competitionId, BOOKED_STATUSES);
+        CompetitionSchedule schedule = toSchedule(rows);
+
+        log.debug("Schedule index built: competitionId={}, matches={}", competitionId, rows.size());
+        return schedule;
+    }
+
+    private CompetitionSchedule toSchedule(List<Object[]> rows) {
+        CompetitionSchedule schedule = new CompetitionSchedule(matchMinutes);
+        for (Object[] row : rows) {
+            schedule.put((UUID) row[0], (UUID) row[1], (UUID) row[2], (UUID) row[3],
+                    (LocalDate) row[4], (LocalTime) row[5]);
+        }
+        return schedule;
+    }
+}
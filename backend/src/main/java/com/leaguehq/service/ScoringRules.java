@@ -0,0 +1,33 @@
+package com.leaguehq.service;
+
+import java.util.Map;
+
+// Points per result from competition.policy.scoring
+public record ScoringRules(int win, int draw, int loss) {
+
+    public static final ScoringRules DEFAULT = new ScoringRules(3, 1, 0);
+
+    @SuppressWarnings("unchecked")
+    public static ScoringRules fromPolicy(Map<String, Object> policy) {
+        if (policy == null || !(policy.get("scoring") instanceof Map<?, ?> scoring)) {
+            return DEFAULT;
+        }
+        Map<String, Object> values = (Map<String, Object>) scoring;
+        return new ScoringRules(
+                intOrDefault(values.get("win"), DEFAULT.win()),
+                intOrDefault(values.get("draw"), DEFAULT.draw()),
+                intOrDefault(values.get("loss"), DEFAULT.loss())
+        );
+    }
+
+    public int pointsFor(int scored, int conceded) {
+        if (scored > conceded) {
+            return win;
+        }
+        return scored == conceded ? draw : loss;
+    }
+
+    private static int intOrDefault(Object value, int fallback) {
+        return value instanceof Number number ? number.intValue() : fallback;
+    }
+}
@@ -0,0 +1,124 @@
+package com.leaguehq.service;
+
+import com.leaguehq.exception.BadRequestException;
+import com.leaguehq.model.Competition;
+import com.leaguehq.model.Team;
+import com.leaguehq.repository.CompetitionCapacityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatReservationService {
+
+    private final CompetitionCapacityRepository capacityRepository;
+
+    // Stripe rejects checkout sessions that expire sooner than 30 minutes after creation
+    static final Duration CHECKOUT_SESSION_MIN_LIFETIME = Duration.ofMinutes(31);
+
+    // A hold always outlives every checkout session created for it by at least this much
+    static final Duration CHECKOUT_HOLD_MARGIN = Duration.ofMinutes(5);
+
+    // Released registrations are purged after the longest a checkout session can stay open
+    private static final Duration RELEASED_REGISTRATION_RETENTION = Duration.ofHours(25);
+
+    @Value("${registration.seat-hold-minutes:40}")
+    private long seatHoldMinutes;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void initializeCapacity(Competition competition) {
+        capacityRepository.initialize(competition.getId(), competition.getMaxTeams());
+    }
+
+    // Claims a seat inside the caller's transaction, so a failed insert afterwards gives it back
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Instant reserveSeat(Competition competition) {
+        claimSeat(competition);
+        return Instant.now().plus(getSeatHold());
+    }
+
+    // Makes sure the team holds a seat for longer than a checkout session started now can stay
+    // open, and returns when that session must expire. The caller holds the team row lock, so
+    // the sweeper cannot release the hold in between. A hold the sweeper already released is
+    // claimed again, which fails if the competition filled up in the meantime.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Instant holdForCheckout(Team team) {
+        Instant now = Instant.now();
+
+        if (team.getSeatExpiresAt() == null || !team.getSeatExpiresAt().isAfter(now)) {
+            if (team.getSeatExpiresAt() == null) {
+                // Released by the sweeper, or registered before seat holds existed
+                claimSeat(team.getCompetition());
+            }
+            team.setSeatExpiresAt(now.plus(getSeatHold()));
+            team.setSeatReleasedAt(null);
+        }
+
+        Instant sessionExpiresAt = team.getSeatExpiresAt().minus(CHECKOUT_HOLD_MARGIN);
+        Instant minimum = now.plus(CHECKOUT_SESSION_MIN_LIFETIME);
+        if (sessionExpiresAt.isBefore(minimum)) {
+            sessionExpiresAt = minimum;
+            team.setSeatExpiresAt(minimum.plus(CHECKOUT_HOLD_MARGIN));
+        }
+        return sessionExpiresAt;
+    }
+
+    private void claimSeat(Competition competition) {
+        int claimed = capacityRepository.tryReserveSeat(competition.getId());
+
+        if (claimed == 0 && !capacityRepository.existsById(competition.getId())) {
+            initializeCapacity(competition);
+            claimed = capacityRepository.tryReserveSeat(competition.getId());
+        }
+
+        if (claimed == 0) {
+            throw new BadRequestException("Competition is full");
+        }
+    }
+
+    // Turns a hold into a permanent seat when the entry fee is paid
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void confirmSeat(Team team) {
+        if (Boolean.TRUE.equals(team.getEntryFeePaid())) {
+            return;
+        }
+
+        if (team.getSeatExpiresAt() == null) {
+            if (team.getSeatReleasedAt() != null) {
+                log.warn("Payment completed after the seat hold was released: teamId={}, releasedAt={}",
+                        team.getId(), team.getSeatReleasedAt());
+            }
+            capacityRepository.forceReserveSeat(team.getCompetition().getId());
+        }
+        team.setSeatExpiresAt(null);
+        team.setSeatReleasedAt(null);
+    }
+
+    public Duration getSeatHold() {
+        return Duration.ofMinutes(seatHoldMinutes);
+    }
+
+    @Scheduled(fixedDelayString = "${registration.seat-sweep-interval-ms:60000}")
+    @Transactional
+    public void releaseExpiredReservations() {
+        Instant now = Instant.now();
+        int competitions = capacityRepository.releaseExpiredReservations(now);
+        if (competitions > 0) {
+            log.info("Released expired seat holds: competitions={}", competitions);
+        }
+
+        int purged = capacityRepository.purgeReleasedRegistrations(now.minus(RELEASED_REGISTRATION_RETENTION));
+        if (purged > 0) {
+            log.info("Purged abandoned registrations: teams={}", purged);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.leaguehq.service;
+
+import com.leaguehq.cache.BloomFilter;
+import com.leaguehq.cache.BoundedTtlCache;
+import com.leaguehq.repository.CompetitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+// Resolves share tokens to competition ids. Lookups go through, in order: a format check,
+// a bloom filter of every issued token, a token -> id cache and a negative cache, so
+// scanners probing random tokens are answered from memory.
+//
+// Each instance keeps its own filter, so tokens issued elsewhere are pulled in by a refresh
+// every few seconds that reads competitions created since the last one. The read window
+// overlaps the previous one to catch rows whose creating transaction committed late; an
+// hourly rebuild resizes the filter and drops tokens of deleted competitions.
+@Service
+@Slf4j
+public class ShareTokenResolver {
+
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("[A-Za-z0-9]{22,64}");
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(2);
+
+    private final CompetitionRepository competitionRepository;
+    private final BoundedTtlCache<String, UUID> shareTokenCache;
+    private final BoundedTtlCache<String, Boolean> unknownShareTokenCache;
+    private final long expectedTokens;
+
+    private volatile BloomFilter issuedTokens;
+    // Competitions created at or before this instant (less the overlap) are in the filter
+    private volatile Instant loadedThrough;
+
+    public ShareTokenResolver(CompetitionRepository competitionRepository,
+                              @Qualifier("shareTokenCache") BoundedTtlCache<String, UUID> shareTokenCache,
+                              @Qualifier("unknownShareTokenCache") BoundedTtlCache<String, Boolean> unknownShareTokenCache,
+                              @Value("${cache.share-token.expected-tokens:100000}") long expectedTokens) {
+        this.competitionRepository = competitionRepository;
+        this.shareTokenCache = shareTokenCache;
+        this.unknownShareTokenCache = unknownShareTokenCache;
+        this.expectedTokens = expectedTokens;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int tokens = rebuild();
+        log.info("Share token filter loaded: tokens={}", tokens);
+    }
+
+    @Scheduled(initialDelayString = "${cache.share-token.rebuild-interval-ms:3600000}",
+               fixedDelayString = "${cache.share-token.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to rebuild share token filter: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.share-token.refresh-interval-ms:5000}")
+    public void refresh() {
+        BloomFilter filter = issuedTokens;
+        Instant since = loadedThrough;
+        if (filter == null) {
+            return;
+        }
+
+        try {
+            Instant now = Instant.now();
+            List<String> tokens = competitionRepository.findShareTokensCreatedAfter(since.minus(REFRESH_OVERLAP));
+            tokens.forEach(filter::put);
+            loadedThrough = now;
+        } catch (Exception e) {
+            log.error("Failed to refresh share token filter: {}", e.getMessage());
+        }
+    }
+
+    private synchronized int rebuild() {
+        Instant now = Instant.now();
+        List<String> tokens = competitionRepository.findAllShareTokens();
+
+        BloomFilter filter = new BloomFilter(Math.max(expectedTokens, tokens.size() * 2L), 0.01);
+        tokens.forEach(filter::put);
+        loadedThrough = now;
+        issuedTokens = filter;
+        return tokens.size();
+    }
+
+    public Optional<UUID> resolve(String token) {
+        if (token == null || !TOKEN_FORMAT.matcher(token).matches()) {
+            return Optional.empty();
+        }
+
+        // Until warm-up finishes every well-formed token falls through to the caches and DB
+        BloomFilter filter = issuedTokens;
+        if (filter != null && !filter.mightContain(token)) {
+            return Optional.empty();
+        }
+
+        UUID cachedId = shareTokenCache.getIfPresent(token);
+        if (cachedId != null) {
+            return Optional.of(cachedId);
+        }
+
+        if (unknownShareTokenCache.getIfPresent(token) != null) {
+            return Optional.empty();
+        }
+
+        Optional<UUID> competitionId = competitionRepository.findIdByShareToken(token);
+        if (competitionId.isPresent()) {
+            shareTokenCache.put(token, competitionId.get());
+        } else {
+            unknownShareTokenCache.put(token, Boolean.TRUE);
+        }
+        return competitionId;
+    }
+
+    // Called inside the transaction creating a competition, so its link resolves here at once.
+    // The caches are filled only after commit: a rollback must not leave a token resolving to a
+    // competition that does not exist.
+    public void registerAfterCommit(String token, UUID competitionId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                BloomFilter filter = issuedTokens;
+                if (filter != null) {
+                    filter.put(token);
+                }
+                unknownShareTokenCache.invalidate(token);
+                shareTokenCache.put(token, competitionId);
+            }
+        });
+    }
+}
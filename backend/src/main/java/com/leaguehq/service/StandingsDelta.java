@@ -0,0 +1,65 @@
+package com.leaguehq.service;
+
+import com.leaguehq.dto.response.StandingsDeltaResponse;
+
+import java.util.UUID;
+
+// Change to one team's standings row caused by adding (or removing) a single result
+record StandingsDelta(int played, int won, int drawn, int lost, int goalsFor, int goalsAgainst, int points) {
+
+    static final StandingsDelta ZERO = new StandingsDelta(0, 0, 0, 0, 0, 0, 0);
+
+    static StandingsDelta forResult(int scored, int conceded, ScoringRules scoring) {
+        return new StandingsDelta(
+                1,
+                scored > conceded ? 1 : 0,
+                scored == conceded ? 1 : 0,
+                scored < conceded ? 1 : 0,
+                scored,
+                conceded,
+                scoring.pointsFor(scored, conceded)
+        );
+    }
+
+    StandingsDelta plus(StandingsDelta other) {
+        return new StandingsDelta(
+                played + other.played,
+                won + other.won,
+                drawn + other.drawn,
+                lost + other.lost,
+                goalsFor + other.goalsFor,
+                goalsAgainst + other.goalsAgainst,
+                points + other.points
+        );
+    }
+
+    StandingsDelta minus(StandingsDelta other) {
+        return new StandingsDelta(
+                played - other.played,
+                won - other.won,
+                drawn - other.drawn,
+                lost - other.lost,
+                goalsFor - other.goalsFor,
+                goalsAgainst - other.goalsAgainst,
+                points - other.points
+        );
+    }
+
+    boolean isZero() {
+        return equals(ZERO);
+    }
+
+    StandingsDeltaResponse toResponse(UUID teamId) {
+        return StandingsDeltaResponse.builder()
+                .teamId(teamId)
+                .played(played)
+                .won(won)
+                .drawn(drawn)
+                .lost(lost)
+                .goalsFor(goalsFor)
+                .goalsAgainst(goalsAgainst)
+                .goalDifference(goalsFor - goalsAgainst)
+                .points(points)
+                .build();
+    }
+}
@@ -0,0 +1,228 @@
+package com.leaguehq.service;
+
+import java.util.List;
+
+// Ranks a competition's teams from its completed results. Teams are addressed by ordinal
+// (0..teamCount-1) and everything lives in primitive arrays sized once at construction, so
+// ranking allocates nothing per comparison.
+//
+// Teams are ordered by points, then by each tiebreaker in policy order, applied only within
+// groups still tied on everything before it. HEAD_TO_HEAD builds a mini-league from the
+// matches between the tied teams only (points, then goal difference, then goals scored).
+// Teams tied on every criterion keep their ordinal order.
+public final class StandingsEngine {
+
+    // Goals are packed into a long key alongside points; results never come close to this
+    private static final long GOAL_OFFSET = 1L << 20;
+
+    private final int teamCount;
+    private final int matchCount;
+    private final int[] homeTeam;
+    private final int[] awayTeam;
+    private final int[] homeGoals;
+    private final int[] awayGoals;
+
+    private final int[] points;
+    private final int[] wins;
+    private final int[] goalsFor;
+    private final int[] goalsAgainst;
+
+    private final int[] miniPoints;
+    private final int[] miniGoalsFor;
+    private final int[] miniGoalsAgainst;
+    private final int[] groupStamp;
+    private int stamp;
+
+    private final int[] order;
+    private final int[] scratch;
+    private final long[] key;
+    // groupStart[i] is true when order[i] is not tied with order[i - 1]
+    private final boolean[] groupStart;
+
+    public StandingsEngine(int teamCount, int[] homeTeam, int[] awayTeam, int[] homeGoals, int[] awayGoals, int matchCount) {
+        this.teamCount = teamCount;
+        this.matchCount = matchCount;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.homeGoals = homeGoals;
+        this.awayGoals = awayGoals;
+
+        this.points = new int[teamCount];
+        this.wins = new int[teamCount];
+        this.goalsFor = new int[teamCount];
+        this.goalsAgainst = new int[teamCount];
+        this.miniPoints = new int[teamCount];
+        this.miniGoalsFor = new int[teamCount];
+        this.miniGoalsAgainst = new int[teamCount];
+        this.groupStamp = new int[teamCount];
+        this.order = new int[teamCount];
+        this.scratch = new int[teamCount];
+        this.key = new long[teamCount];
+        this.groupStart = new boolean[teamCount + 1];
+    }
+
+    // Returns team ordinals, best first. The returned array is owned by the engine and is
+    // overwritten by the next call.
+    public int[] rank(ScoringRules scoring, List<Tiebreaker> tiebreakers) {
+        computeTotals(scoring);
+
+        for (int i = 0; i < teamCount; i++) {
+            order[i] = i;
+            key[i] = points[i];
+        }
+        sortSegment(0, teamCount);
+        groupStart[0] = true;
+        groupStart[teamCount] = true;
+        markBoundaries(0, teamCount);
+
+        for (Tiebreaker tiebreaker : tiebreakers) {
+            if (!breakTies(tiebreaker, scoring)) {
+                break;
+            }
+        }
+        return order;
+    }
+
+    private void computeTotals(ScoringRules scoring) {
+        for (int t = 0; t < teamCount; t++) {
+            points[t] = 0;
+            wins[t] = 0;
+            goalsFor[t] = 0;
+            goalsAgainst[t] = 0;
+        }
+
+        for (int m = 0; m < matchCount; m++) {
+            int home = homeTeam[m];
+            int away = awayTeam[m];
+            int hg = homeGoals[m];
+            int ag = awayGoals[m];
+
+            goalsFor[home] += hg;
+            goalsAgainst[home] += ag;
+            goalsFor[away] += ag;
+            goalsAgainst[away] += hg;
+            points[home] += scoring.pointsFor(hg, ag);
+            points[away] += scoring.pointsFor(ag, hg);
+            if (hg > ag) {
+                wins[home]++;
+            } else if (ag > hg) {
+                wins[away]++;
+            }
+        }
+    }
+
+    // Re-sorts every tied group by the tiebreaker. Returns false once no ties remain.
+    private boolean breakTies(Tiebreaker tiebreaker, ScoringRules scoring) {
+        boolean tiesRemain = false;
+        int start = 0;
+
+        while (start < teamCount) {
+            int end = start + 1;
+            while (!groupStart[end]) {
+                end++;
+            }
+
+            if (end - start > 1) {
+                if (tiebreaker == Tiebreaker.HEAD_TO_HEAD) {
+                    computeMiniLeague(start, end, scoring);
+                }
+                for (int i = start; i < end; i++) {
+                    key[order[i]] = keyFor(tiebreaker, order[i]);
+                }
+                sortSegment(start, end);
+                tiesRemain |= markBoundaries(start, end);
+            }
+            start = end;
+        }
+        return tiesRemain;
+    }
+
+    private long keyFor(Tiebreaker tiebreaker, int team) {
+        return switch (tiebreaker) {
+            case GOAL_DIFF -> goalsFor[team] - goalsAgainst[team];
+            case GOALS_FOR -> goalsFor[team];
+            case GOALS_AGAINST -> -goalsAgainst[team];
+            case WINS -> wins[team];
+            case HEAD_TO_HEAD -> ((long) miniPoints[team] << 42)
+                    + ((miniGoalsFor[team] - miniGoalsAgainst[team] + GOAL_OFFSET) << 21)
+                    + miniGoalsFor[team];
+        };
+    }
+
+    // Results between members of order[start, end) only
+    private void computeMiniLeague(int start, int end, ScoringRules scoring) {
+        stamp++;
+        for (int i = start; i < end; i++) {
+            int team = order[i];
+            groupStamp[team] = stamp;
+            miniPoints[team] = 0;
+            miniGoalsFor[team] = 0;
+            miniGoalsAgainst[team] = 0;
+        }
+
+        for (int m = 0; m < matchCount; m++) {
+            int home = homeTeam[m];
+            int away = awayTeam[m];
+            if (groupStamp[home] != stamp || groupStamp[away] != stamp) {
+                continue;
+            }
+            int hg = homeGoals[m];
+            int ag = awayGoals[m];
+            miniGoalsFor[home] += hg;
+            miniGoalsAgainst[home] += ag;
+            miniGoalsFor[away] += ag;
+            miniGoalsAgainst[away] += hg;
+            miniPoints[home] += scoring.pointsFor(hg, ag);
+            miniPoints[away] += scoring.pointsFor(ag, hg);
+        }
+    }
+
+    // Splits order[start, end) into groups of equal key; true if any group still has ties
+    private boolean markBoundaries(int start, int end) {
+        boolean ties = false;
+        for (int i = start + 1; i < end; i++) {
+            boolean differs = key[order[i]] != key[order[i - 1]];
+            groupStart[i] = differs;
+            ties |= !differs;
+        }
+        return ties;
+    }
+
+    // Stable merge sort of order[lo, hi) by key, descending
+    private void sortSegment(int lo, int hi) {
+        if (hi - lo <= 16) {
+            insertionSort(lo, hi);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        sortSegment(lo, mid);
+        sortSegment(mid, hi);
+        if (key[order[mid - 1]] >= key[order[mid]]) {
+            return;
+        }
+
+        System.arraycopy(order, lo, scratch, lo, hi - lo);
+        int left = lo;
+        int right = mid;
+        for (int i = lo; i < hi; i++) {
+            if (right >= hi || (left < mid && key[scratch[left]] >= key[scratch[right]])) {
+                order[i] = scratch[left++];
+            } else {
+                order[i] = scratch[right++];
+            }
+        }
+    }
+
+    private void insertionSort(int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            int team = order[i];
+            long value = key[team];
+            int j = i - 1;
+            while (j >= lo && key[order[j]] < value) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = team;
+        }
+    }
+}
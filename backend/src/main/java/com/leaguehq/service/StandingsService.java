@@ -0,0 +1,193 @@
+package com.leaguehq.service;
+
+import com.leaguehq.dto.response.StandingResponse;
+import com.leaguehq.dto.response.StandingsConsistencyResponse;
+import com.leaguehq.exception.BadRequestException;
+import com.leaguehq.exception.ResourceNotFoundException;
+import com.leaguehq.model.Competition;
+import com.leaguehq.model.Match;
+import com.leaguehq.model.Standing;
+import com.leaguehq.model.User;
+import com.leaguehq.repository.CompetitionRepository;
+import com.leaguehq.repository.MatchRepository;
+import com.leaguehq.repository.StandingJdbcRepository;
+import com.leaguehq.repository.StandingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StandingsService {
+
+    private final StandingRepository standingRepository;
+    private final CompetitionRepository competitionRepository;
+    private final MatchRepository matchRepository;
+    private final StandingJdbcRepository standingJdbcRepository;
+
+    @Transactional(readOnly = true)
+    public List<StandingResponse> getStandings(UUID competitionId) {
+        Competition competition = competitionRepository.findById(competitionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Competition not found"));
+
+        // Rows arrive ordered by points, GD, GF, name; only point ties need the policy order
+        List<Object[]> rows = standingRepository.findTableByCompetitionId(competitionId);
+        if (hasPointTies(rows)) {
+            rows = applyTiebreakers(competition, rows);
+        }
+
+        List<StandingResponse> table = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            table.add(StandingResponse.fromEntity((Standing) row[0], (String) row[1], table.size() + 1));
+        }
+        return table;
+    }
+
+    // Applies the effect of one result change to exactly the two teams involved, inside the
+    // caller's transaction so the match row and the table commit together
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyResultChange(UUID competitionId,
+                                  UUID homeTeamId, StandingsDelta homeDelta,
+                                  UUID awayTeamId, StandingsDelta awayDelta) {
+        standingRepository.lockCompetitionShared(competitionId.toString());
+
+        // Fixed order keeps concurrent results for overlapping teams from deadlocking
+        if (homeTeamId.compareTo(awayTeamId) < 0) {
+            applyDelta(competitionId, homeTeamId, homeDelta);
+            applyDelta(competitionId, awayTeamId, awayDelta);
+        } else {
+            applyDelta(competitionId, awayTeamId, awayDelta);
+            applyDelta(competitionId, homeTeamId, homeDelta);
+        }
+    }
+
+    // Multi-result form: changes are summed per team first, so each affected row is written
+    // once, in one JDBC batch
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyResultChanges(UUID competitionId, Map<UUID, StandingsDelta> deltasByTeam) {
+        List<StandingJdbcRepository.TeamDelta> rows = new ArrayList<>(deltasByTeam.size());
+        for (Map.Entry<UUID, StandingsDelta> entry : new TreeMap<>(deltasByTeam).entrySet()) {
+            StandingsDelta delta = entry.getValue();
+            if (!delta.isZero()) {
+                rows.add(new StandingJdbcRepository.TeamDelta(entry.getKey(),
+                        delta.played(), delta.won(), delta.drawn(), delta.lost(),
+                        delta.goalsFor(), delta.goalsAgainst(), delta.points()));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        standingRepository.lockCompetitionShared(competitionId.toString());
+        standingJdbcRepository.applyDeltas(competitionId, rows);
+    }
+
+    // Repair path: recomputes the competition's rows from the live view
+    @Transactional
+    public List<StandingResponse> rebuildStandings(UUID competitionId, UUID userId, User.UserRole role) {
+        verifyAccess(competitionId, userId, role);
+
+        standingRepository.lockCompetitionExclusive(competitionId.toString());
+        standingRepository.deleteByCompetitionId(competitionId);
+        int rows = standingRepository.insertFromLiveView(competitionId);
+
+        log.info("Standings rebuilt: competitionId={}, teams={}, requestedBy={}", competitionId, rows, userId);
+
+        return getStandings(competitionId);
+    }
+
+    @Transactional(readOnly = true)
+    public StandingsConsistencyResponse checkConsistency(UUID competitionId, UUID userId, User.UserRole role) {
+        verifyAccess(competitionId, userId, role);
+
+        List<UUID> mismatched = standingRepository.findInconsistentTeamIds(competitionId);
+        if (!mismatched.isEmpty()) {
+            log.warn("Standings drift detected: competitionId={}, teams={}", competitionId, mismatched);
+        }
+
+        return StandingsConsistencyResponse.builder()
+                .competitionId(competitionId)
+                .consistent(mismatched.isEmpty())
+                .mismatchedTeamIds(mismatched)
+                .checkedAt(Instant.now())
+                .build();
+    }
+
+    // Reorders the table with the engine, using the policy's scoring and tiebreaker order. Team
+    // ordinals are row positions, so teams tied on every criterion keep name order.
+    private List<Object[]> applyTiebreakers(Competition competition, List<Object[]> rows) {
+        Map<UUID, Integer> ordinals = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            ordinals.put(((Standing) row[0]).getTeamId(), ordinals.size());
+        }
+
+        List<Object[]> results = matchRepository.findResultsByCompetitionIdAndStatus(
+                competition.getId(), Match.MatchStatus.COMPLETED);
+        int[] home = new int[results.size()];
+        int[] away = new int[results.size()];
+        int[] homeGoals = new int[results.size()];
+        int[] awayGoals = new int[results.size()];
+        int count = 0;
+        for (Object[] result : results) {
+            Integer homeOrdinal = ordinals.get((UUID) result[0]);
+            Integer awayOrdinal = ordinals.get((UUID) result[1]);
+            if (homeOrdinal == null || awayOrdinal == null) {
+                continue;
+            }
+            home[count] = homeOrdinal;
+            away[count] = awayOrdinal;
+            homeGoals[count] = (Integer) result[2];
+            awayGoals[count] = (Integer) result[3];
+            count++;
+        }
+
+        StandingsEngine engine = new StandingsEngine(rows.size(), home, away, homeGoals, awayGoals, count);
+        int[] order = engine.rank(
+                ScoringRules.fromPolicy(competition.getPolicy()),
+                Tiebreaker.fromPolicy(competition.getPolicy()));
+
+        List<Object[]> ranked = new ArrayList<>(rows.size());
+        for (int ordinal : order) {
+            ranked.add(rows.get(ordinal));
+        }
+        return ranked;
+    }
+
+    private static boolean hasPointTies(List<Object[]> rows) {
+        for (int i = 1; i < rows.size(); i++) {
+            if (((Standing) rows.get(i)[0]).getPoints().equals(((Standing) rows.get(i - 1)[0]).getPoints())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void applyDelta(UUID competitionId, UUID teamId, StandingsDelta delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        standingRepository.applyDelta(competitionId, teamId,
+                delta.played(), delta.won(), delta.drawn(), delta.lost(),
+                delta.goalsFor(), delta.goalsAgainst(), delta.points());
+    }
+
+    private void verifyAccess(UUID competitionId, UUID userId, User.UserRole role) {
+        Competition competition = competitionRepository.findById(competitionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Competition not found"));
+
+        if (role != User.UserRole.PLATFORM_OWNER && !competition.getOwner().getId().equals(userId)) {
+            throw new BadRequestException("You can only manage standings for your own competitions");
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.leaguehq.service;
 
+import com.leaguehq.cache.BoundedTtlCache;
+import com.leaguehq.dto.response.CompetitionResponse;
 import com.leaguehq.dto.response.ConnectOnboardingLinkResponse;
 import com.leaguehq.exception.BadRequestException;
 import com.leaguehq.exception.ResourceNotFoundException;
 import com.leaguehq.model.*;
 import com.leaguehq.repository.*;
+import com.leaguehq.security.CustomUserDetailsService;
 import com.stripe.Stripe;
 import com.stripe.exception.StripeException;
 import com.stripe.model.Account;
@@ -33,6 +36,10 @@ public class StripeService {
     private final TeamRepository teamRepository;
     private final PaymentTransactionRepository paymentTransactionRepository;
     private final SubscriptionEventRepository subscriptionEventRepository;
+    private final BoundedTtlCache<UUID, VersionedResponse<CompetitionResponse>> competitionDetailCache;
+    private final SeatReservationService seatReservationService;
+    private final SubscriptionGraceService subscriptionGraceService;
+    private final CustomUserDetailsService userDetailsService;
 
     @Value("${stripe.api-key}")
     private String stripeApiKey;
@@ -122,7 +129,8 @@ public class StripeService {
     }
 
     @Transactional
-    public void handleAccountUpdated(String accountId) {
+    public void handleAccountUpdated(Account account) {
+        String accountId = account.getId();
         log.info("=== WEBHOOK: Processing account.updated webhook: accountId={} ===", accountId);
 
         User user = userRepository.findByStripeConnectAccountId(accountId)
@@ -131,52 +139,45 @@ public class StripeService {
         log.info("WEBHOOK: Found user: userId={}, email={}, currentPayoutStatus={}",
                 user.getId(), user.getEmail(), user.getPayoutStatus());
 
-        try {
-            Account account = Account.retrieve(accountId);
-
-            // Check if charges are enabled (account is fully verified)
-            boolean chargesEnabled = account.getChargesEnabled();
-            boolean payoutsEnabled = account.getPayoutsEnabled();
-            boolean detailsSubmitted = account.getDetailsSubmitted();
-
-            log.info("WEBHOOK: Account status: accountId={}, chargesEnabled={}, payoutsEnabled={}, detailsSubmitted={}",
-                    accountId, chargesEnabled, payoutsEnabled, detailsSubmitted);
-
-            // Store previous status for comparison
-            User.PayoutStatus previousPayoutStatus = user.getPayoutStatus();
-            User.StripeConnectStatus previousConnectStatus = user.getStripeConnectStatus();
-
-            // Update user status based on Stripe account state
-            if (chargesEnabled && payoutsEnabled) {
-                user.setStripeConnectStatus(User.StripeConnectStatus.VERIFIED);
-                user.setPayoutStatus(User.PayoutStatus.ENABLED);
-                user.setStripeConnectOnboardedAt(Instant.now());
-                log.info("WEBHOOK: Setting user account to VERIFIED/ENABLED: userId={}, accountId={}", user.getId(), accountId);
-            } else if (detailsSubmitted) {
-                user.setStripeConnectStatus(User.StripeConnectStatus.INCOMPLETE);
-                user.setPayoutStatus(User.PayoutStatus.PENDING);
-                log.info("WEBHOOK: Setting user account to INCOMPLETE/PENDING: userId={}, accountId={}", user.getId(), accountId);
-            } else {
-                user.setStripeConnectStatus(User.StripeConnectStatus.INCOMPLETE);
-                user.setPayoutStatus(User.PayoutStatus.NONE);
-                log.info("WEBHOOK: Setting user account to INCOMPLETE/NONE: userId={}, accountId={}", user.getId(), accountId);
-            }
-
-            User savedUser = userRepository.save(user);
-            log.info("WEBHOOK: ✓ Successfully saved user: userId={}, previousStatus={}->{}, previousPayoutStatus={}->{}",
-                    savedUser.getId(),
-                    previousConnectStatus, savedUser.getStripeConnectStatus(),
-                    previousPayoutStatus, savedUser.getPayoutStatus());
+        // Check if charges are enabled (account is fully verified)
+        boolean chargesEnabled = Boolean.TRUE.equals(account.getChargesEnabled());
+        boolean payoutsEnabled = Boolean.TRUE.equals(account.getPayoutsEnabled());
+        boolean detailsSubmitted = Boolean.TRUE.equals(account.getDetailsSubmitted());
+
+        log.info("WEBHOOK: Account status: accountId={}, chargesEnabled={}, payoutsEnabled={}, detailsSubmitted={}",
+                accountId, chargesEnabled, payoutsEnabled, detailsSubmitted);
+
+        // Store previous status for comparison
+        User.PayoutStatus previousPayoutStatus = user.getPayoutStatus();
+        User.StripeConnectStatus previousConnectStatus = user.getStripeConnectStatus();
+
+        // Update user status based on Stripe account state
+        if (chargesEnabled && payoutsEnabled) {
+            user.setStripeConnectStatus(User.StripeConnectStatus.VERIFIED);
+            user.setPayoutStatus(User.PayoutStatus.ENABLED);
+            user.setStripeConnectOnboardedAt(Instant.now());
+            log.info("WEBHOOK: Setting user account to VERIFIED/ENABLED: userId={}, accountId={}", user.getId(), accountId);
+        } else if (detailsSubmitted) {
+            user.setStripeConnectStatus(User.StripeConnectStatus.INCOMPLETE);
+            user.setPayoutStatus(User.PayoutStatus.PENDING);
+            log.info("WEBHOOK: Setting user account to INCOMPLETE/PENDING: userId={}, accountId={}", user.getId(), accountId);
+        } else {
+            user.setStripeConnectStatus(User.StripeConnectStatus.INCOMPLETE);
+            user.setPayoutStatus(User.PayoutStatus.NONE);
+            log.info("WEBHOOK: Setting user account to INCOMPLETE/NONE: userId={}, accountId={}", user.getId(), accountId);
+        }
 
-            // Verify the save actually persisted
-            User verifyUser = userRepository.findById(user.getId()).orElseThrow();
-            log.info("WEBHOOK: ✓ Verified saved user in DB: userId={}, payoutStatus={}, stripeConnectStatus={}",
-                    verifyUser.getId(), verifyUser.getPayoutStatus(), verifyUser.getStripeConnectStatus());
+        User savedUser = userRepository.save(user);
+        userDetailsService.evictUser(savedUser.getId());
+        log.info("WEBHOOK: ✓ Successfully saved user: userId={}, previousStatus={}->{}, previousPayoutStatus={}->{}",
+                savedUser.getId(),
+                previousConnectStatus, savedUser.getStripeConnectStatus(),
+                previousPayoutStatus, savedUser.getPayoutStatus());
 
-        } catch (StripeException e) {
-            log.error("WEBHOOK: Failed to retrieve Stripe account: accountId={}, error={}", accountId, e.getMessage(), e);
-            throw new RuntimeException("Failed to process account update", e);
-        }
+        // Verify the save actually persisted
+        User verifyUser = userRepository.findById(user.getId()).orElseThrow();
+        log.info("WEBHOOK: ✓ Verified saved user in DB: userId={}, payoutStatus={}, stripeConnectStatus={}",
+                verifyUser.getId(), verifyUser.getPayoutStatus(), verifyUser.getStripeConnectStatus());
 
         log.info("=== WEBHOOK: Completed processing account.updated for accountId={} ===", accountId);
     }
@@ -227,6 +228,7 @@ public class StripeService {
             }
 
             User savedUser = userRepository.save(user);
+            userDetailsService.evictUser(savedUser.getId());
             log.info("✓ Successfully updated user: userId={}, previousStatus={}->{}, previousPayoutStatus={}->{}",
                     savedUser.getId(),
                     previousConnectStatus, savedUser.getStripeConnectStatus(),
@@ -243,264 +245,294 @@ public class StripeService {
     }
 
     // ==================== Payment Webhook Handlers ====================
+    // Handlers work from the object in the event payload and make no Stripe calls,
+    // so their transactions only span database work.
 
     @Transactional
-    public void handleCheckoutSessionCompleted(String sessionId) {
-        log.info("WEBHOOK: Processing checkout.session.completed: sessionId={}", sessionId);
+    public void handleCheckoutSessionCompleted(String eventId, com.stripe.model.checkout.Session session) {
+        String sessionId = session.getId();
+        log.info("WEBHOOK: Processing checkout.session.completed: eventId={}, sessionId={}", eventId, sessionId);
 
-        try {
-            // Retrieve the session from Stripe to get all details
-            com.stripe.model.checkout.Session session = com.stripe.model.checkout.Session.retrieve(sessionId);
-
-            String teamIdStr = session.getMetadata().get("team_id");
-            String competitionIdStr = session.getMetadata().get("competition_id");
+        // Redelivered or retried event whose effects are already committed
+        if (subscriptionEventRepository.existsByStripeEventId(eventId)) {
+            log.info("WEBHOOK: Skipping already processed event: eventId={}, sessionId={}", eventId, sessionId);
+            return;
+        }
 
-            if (teamIdStr == null || competitionIdStr == null) {
-                log.error("Missing metadata in checkout session: sessionId={}", sessionId);
-                return;
-            }
+        String teamIdStr = session.getMetadata().get("team_id");
+        String competitionIdStr = session.getMetadata().get("competition_id");
 
-            UUID teamId = UUID.fromString(teamIdStr);
-            UUID competitionId = UUID.fromString(competitionIdStr);
-
-            Team team = teamRepository.findById(teamId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Team not found: " + teamId));
-
-            Competition competition = team.getCompetition();
-            User coach = team.getCoach();
-
-            // Extract payment details
-            String subscriptionId = session.getSubscription();
-            String paymentIntentId = session.getPaymentIntent();
-            Long amountTotal = session.getAmountTotal(); // in cents
-
-            log.info("Checkout completed: teamId={}, subscriptionId={}, amountTotal={}",
-                     teamId, subscriptionId, amountTotal);
-
-            // Update team with subscription info
-            team.setEntryFeePaid(true);
-            team.setEntryFeePaidAt(Instant.now());
-            team.setSubscriptionId(subscriptionId);
-            team.setSubscriptionStatus(Team.SubscriptionStatus.ACTIVE);
-            team.setIsEligible(true);
-
-            // Get subscription details for period info
-            // Note: Period dates will be updated by invoice webhooks
-            // if (subscriptionId != null) {
-            //     Subscription subscription = Subscription.retrieve(subscriptionId);
-            //     team.setSubscriptionCurrentPeriodStart(Instant.ofEpochSecond(subscription.getCurrentPeriodStart()));
-            //     team.setSubscriptionCurrentPeriodEnd(Instant.ofEpochSecond(subscription.getCurrentPeriodEnd()));
-            // }
-
-            teamRepository.save(team);
-
-            // Calculate split amounts
-            BigDecimal entryFee = competition.getEntryFee();
-            BigDecimal platformFeePercentage = competition.getPlatformFeePercentage();
-            long entryFeeCents = entryFee.multiply(new BigDecimal(100)).longValue();
-            long subscriptionCents = 2000L; // $20
-
-            long platformFeeFromEntry = entryFee.multiply(platformFeePercentage)
-                    .divide(new BigDecimal(100))
-                    .multiply(new BigDecimal(100))
-                    .longValue();
-            long netToOwner = entryFeeCents - platformFeeFromEntry;
-
-            // Create payment transaction for entry fee
-            if (entryFeeCents > 0) {
-                PaymentTransaction entryFeeTransaction = PaymentTransaction.builder()
-                        .stripePaymentIntentId(paymentIntentId)
-                        .stripeCheckoutSessionId(sessionId)
-                        .team(team)
-                        .competition(competition)
-                        .user(coach)
-                        .amountCents((int) entryFeeCents)
-                        .platformFeeCents((int) platformFeeFromEntry)
-                        .netToOwnerCents((int) netToOwner)
-                        .currency("USD")
-                        .transactionType(PaymentTransaction.TransactionType.ENTRY_FEE)
-                        .status(PaymentTransaction.TransactionStatus.SUCCEEDED)
-                        .stripeCreatedAt(Instant.now())
-                        .build();
-
-                paymentTransactionRepository.save(entryFeeTransaction);
-                log.info("Created entry fee transaction: teamId={}, amount={}", teamId, entryFeeCents);
-            }
+        if (teamIdStr == null || competitionIdStr == null) {
+            log.error("Missing metadata in checkout session: sessionId={}", sessionId);
+            return;
+        }
 
-            // Create payment transaction for first month subscription
-            PaymentTransaction subscriptionTransaction = PaymentTransaction.builder()
+        UUID teamId = UUID.fromString(teamIdStr);
+        UUID competitionId = UUID.fromString(competitionIdStr);
+
+        // Locked so the seat sweeper cannot release the hold between confirmSeat and commit
+        Team team = teamRepository.findByIdForUpdate(teamId)
+                .orElseThrow(() -> new ResourceNotFoundException("Team not found: " + teamId));
+
+        Competition competition = team.getCompetition();
+        User coach = team.getCoach();
+
+        // Extract payment details
+        String subscriptionId = session.getSubscription();
+        String paymentIntentId = session.getPaymentIntent();
+        Long amountTotal = session.getAmountTotal(); // in cents
+
+        log.info("Checkout completed: teamId={}, subscriptionId={}, amountTotal={}",
+                 teamId, subscriptionId, amountTotal);
+
+        // Convert the seat hold into a permanent seat before marking the team paid
+        seatReservationService.confirmSeat(team);
+
+        // Update team with subscription info
+        team.setEntryFeePaid(true);
+        team.setEntryFeePaidAt(Instant.now());
+        team.setSubscriptionId(subscriptionId);
+        team.setSubscriptionStatus(Team.SubscriptionStatus.ACTIVE);
+        team.setIsEligible(true);
+
+        // Get subscription details for period info
+        // Note: Period dates will be updated by invoice webhooks
+        // if (subscriptionId != null) {
+        //     Subscription subscription = Subscription.retrieve(subscriptionId);
+        //     team.setSubscriptionCurrentPeriodStart(Instant.ofEpochSecond(subscription.getCurrentPeriodStart()));
+        //     team.setSubscriptionCurrentPeriodEnd(Instant.ofEpochSecond(subscription.getCurrentPeriodEnd()));
+        // }
+
+        teamRepository.save(team);
+
+        // Registered team count on the public detail page just changed
+        competitionDetailCache.invalidateAfterCommit(competition.getId());
+
+        // Calculate split amounts
+        BigDecimal entryFee = competition.getEntryFee();
+        BigDecimal platformFeePercentage = competition.getPlatformFeePercentage();
+        long entryFeeCents = entryFee.multiply(new BigDecimal(100)).longValue();
+        long subscriptionCents = 2000L; // $20
+
+        long platformFeeFromEntry = entryFee.multiply(platformFeePercentage)
+                .divide(new BigDecimal(100))
+                .multiply(new BigDecimal(100))
+                .longValue();
+        long netToOwner = entryFeeCents - platformFeeFromEntry;
+
+        // Create payment transaction for entry fee
+        if (entryFeeCents > 0) {
+            PaymentTransaction entryFeeTransaction = PaymentTransaction.builder()
                     .stripePaymentIntentId(paymentIntentId)
                     .stripeCheckoutSessionId(sessionId)
                     .team(team)
                     .competition(competition)
                     .user(coach)
-                    .amountCents((int) subscriptionCents)
-                    .platformFeeCents((int) subscriptionCents) // 100% to platform
-                    .netToOwnerCents(0)
+                    .amountCents((int) entryFeeCents)
+                    .platformFeeCents((int) platformFeeFromEntry)
+                    .netToOwnerCents((int) netToOwner)
                     .currency("USD")
-                    .transactionType(PaymentTransaction.TransactionType.SUBSCRIPTION)
+                    .transactionType(PaymentTransaction.TransactionType.ENTRY_FEE)
                     .status(PaymentTransaction.TransactionStatus.SUCCEEDED)
                     .stripeCreatedAt(Instant.now())
                     .build();
 
-            paymentTransactionRepository.save(subscriptionTransaction);
-            log.info("Created subscription transaction: teamId={}, amount={}", teamId, subscriptionCents);
-
-            // Log subscription event
-            SubscriptionEvent event = SubscriptionEvent.builder()
-                    .team(team)
-                    .subscriptionId(subscriptionId)
-                    .eventType(SubscriptionEvent.EventType.CREATED)
-                    .newStatus("ACTIVE")
-                    .build();
-
-            subscriptionEventRepository.save(event);
-
-            log.info("✓ Checkout session completed successfully: teamId={}, subscriptionId={}", teamId, subscriptionId);
-
-        } catch (StripeException e) {
-            log.error("Failed to retrieve checkout session: sessionId={}, error={}", sessionId, e.getMessage(), e);
-            throw new BadRequestException("Failed to process checkout session: " + e.getMessage());
+            paymentTransactionRepository.save(entryFeeTransaction);
+            log.info("Created entry fee transaction: teamId={}, amount={}", teamId, entryFeeCents);
         }
+
+        // Create payment transaction for first month subscription
+        PaymentTransaction subscriptionTransaction = PaymentTransaction.builder()
+                .stripePaymentIntentId(paymentIntentId)
+                .stripeCheckoutSessionId(sessionId)
+                .team(team)
+                .competition(competition)
+                .user(coach)
+                .amountCents((int) subscriptionCents)
+                .platformFeeCents((int) subscriptionCents) // 100% to platform
+                .netToOwnerCents(0)
+                .currency("USD")
+                .transactionType(PaymentTransaction.TransactionType.SUBSCRIPTION)
+                .status(PaymentTransaction.TransactionStatus.SUCCEEDED)
+                .stripeCreatedAt(Instant.now())
+                .build();
+
+        paymentTransactionRepository.save(subscriptionTransaction);
+        log.info("Created subscription transaction: teamId={}, amount={}", teamId, subscriptionCents);
+
+        // Log subscription event
+        SubscriptionEvent event = SubscriptionEvent.builder()
+                .team(team)
+                .subscriptionId(subscriptionId)
+                .stripeEventId(eventId)
+                .eventType(SubscriptionEvent.EventType.CREATED)
+                .newStatus("ACTIVE")
+                .build();
+
+        subscriptionEventRepository.save(event);
+
+        log.info("✓ Checkout session completed successfully: teamId={}, subscriptionId={}", teamId, subscriptionId);
     }
 
     @Transactional
-    public void handleInvoicePaymentSucceeded(String invoiceId) {
-        log.info("WEBHOOK: Processing invoice.payment_succeeded: invoiceId={}", invoiceId);
-
-        try {
-            Invoice invoice = Invoice.retrieve(invoiceId);
-            // Get subscription ID from invoice lines
-            String subscriptionId = null;
-            if (invoice.getLines() != null && invoice.getLines().getData().size() > 0) {
-                subscriptionId = invoice.getLines().getData().get(0).getSubscription();
-            }
-
-            if (subscriptionId == null) {
-                log.warn("Invoice has no subscription: invoiceId={}", invoiceId);
-                return;
-            }
+    public void handleInvoicePaymentSucceeded(String eventId, Invoice invoice) {
+        String invoiceId = invoice.getId();
+        log.info("WEBHOOK: Processing invoice.payment_succeeded: eventId={}, invoiceId={}", eventId, invoiceId);
 
-            // Find team by subscription ID
-            Team team = teamRepository.findBySubscriptionId(subscriptionId)
-                    .orElse(null);
-
-            if (team == null) {
-                log.warn("No team found for subscription: subscriptionId={}", subscriptionId);
-                return;
-            }
-
-            log.info("Processing successful subscription payment: teamId={}, subscriptionId={}",
-                     team.getId(), subscriptionId);
-
-            String oldStatus = team.getSubscriptionStatus() != null ? team.getSubscriptionStatus().name() : null;
+        // Redelivered or retried event whose effects are already committed
+        if (subscriptionEventRepository.existsByStripeEventId(eventId)) {
+            log.info("WEBHOOK: Skipping already processed event: eventId={}, invoiceId={}", eventId, invoiceId);
+            return;
+        }
 
-            // Update team subscription status
-            team.setSubscriptionStatus(Team.SubscriptionStatus.ACTIVE);
-            team.setIsEligible(true);
-            // Period dates are in invoice lines
-            if (invoice.getLines() != null && invoice.getLines().getData().size() > 0) {
-                var line = invoice.getLines().getData().get(0);
-                if (line.getPeriod() != null) {
-                    team.setSubscriptionCurrentPeriodStart(Instant.ofEpochSecond(line.getPeriod().getStart()));
-                    team.setSubscriptionCurrentPeriodEnd(Instant.ofEpochSecond(line.getPeriod().getEnd()));
-                }
-            }
+        // Get subscription ID from invoice lines
+        String subscriptionId = null;
+        if (invoice.getLines() != null && invoice.getLines().getData().size() > 0) {
+            subscriptionId = invoice.getLines().getData().get(0).getSubscription();
+        }
 
-            teamRepository.save(team);
+        if (subscriptionId == null) {
+            log.warn("Invoice has no subscription: invoiceId={}", invoiceId);
+            return;
+        }
 
-            // Create payment transaction for subscription renewal
-            // Try to get payment intent ID from the invoice
-            String paymentIntentId = invoice.getId();  // Use invoice ID as fallback
-            PaymentTransaction transaction = PaymentTransaction.builder()
-                    .stripePaymentIntentId(paymentIntentId)
-                    .team(team)
-                    .competition(team.getCompetition())
-                    .user(team.getCoach())
-                    .amountCents(invoice.getAmountPaid().intValue())
-                    .platformFeeCents(invoice.getAmountPaid().intValue()) // 100% to platform
-                    .netToOwnerCents(0)
-                    .currency(invoice.getCurrency().toUpperCase())
-                    .transactionType(PaymentTransaction.TransactionType.SUBSCRIPTION)
-                    .status(PaymentTransaction.TransactionStatus.SUCCEEDED)
-                    .stripeCreatedAt(Instant.ofEpochSecond(invoice.getCreated()))
-                    .build();
+        // Find team by subscription ID, locked so concurrent invoice events for it apply one at a time
+        Team team = teamRepository.findBySubscriptionIdForUpdate(subscriptionId)
+                .orElse(null);
 
-            paymentTransactionRepository.save(transaction);
+        if (team == null) {
+            log.warn("No team found for subscription: subscriptionId={}", subscriptionId);
+            return;
+        }
 
-            // Log subscription event
-            SubscriptionEvent event = SubscriptionEvent.builder()
-                    .team(team)
-                    .subscriptionId(subscriptionId)
-                    .eventType(SubscriptionEvent.EventType.RENEWED)
-                    .oldStatus(oldStatus)
-                    .newStatus("ACTIVE")
-                    .build();
+        log.info("Processing successful subscription payment: teamId={}, subscriptionId={}",
+                 team.getId(), subscriptionId);
+
+        String oldStatus = team.getSubscriptionStatus() != null ? team.getSubscriptionStatus().name() : null;
+        // Non-null when this payment ends a grace period or a suspension
+        String reactivatedFrom = subscriptionGraceService.onPaymentSucceeded(team);
+
+        // Update team subscription status
+        team.setSubscriptionStatus(Team.SubscriptionStatus.ACTIVE);
+        team.setIsEligible(true);
+        // Period dates are in invoice lines; a late event for an earlier period never moves them back,
+        // since handleInvoicePaymentFailed compares against the paid-through date
+        Instant periodEnd = invoicePeriodEnd(invoice);
+        if (periodEnd != null && (team.getSubscriptionCurrentPeriodEnd() == null
+                || periodEnd.isAfter(team.getSubscriptionCurrentPeriodEnd()))) {
+            var line = invoice.getLines().getData().get(0);
+            team.setSubscriptionCurrentPeriodStart(Instant.ofEpochSecond(line.getPeriod().getStart()));
+            team.setSubscriptionCurrentPeriodEnd(periodEnd);
+        }
 
-            subscriptionEventRepository.save(event);
+        teamRepository.save(team);
+
+        // Create payment transaction for subscription renewal
+        // Try to get payment intent ID from the invoice
+        String paymentIntentId = invoice.getId();  // Use invoice ID as fallback
+        PaymentTransaction transaction = PaymentTransaction.builder()
+                .stripePaymentIntentId(paymentIntentId)
+                .team(team)
+                .competition(team.getCompetition())
+                .user(team.getCoach())
+                .amountCents(invoice.getAmountPaid().intValue())
+                .platformFeeCents(invoice.getAmountPaid().intValue()) // 100% to platform
+                .netToOwnerCents(0)
+                .currency(invoice.getCurrency().toUpperCase())
+                .transactionType(PaymentTransaction.TransactionType.SUBSCRIPTION)
+                .status(PaymentTransaction.TransactionStatus.SUCCEEDED)
+                .stripeCreatedAt(Instant.ofEpochSecond(invoice.getCreated()))
+                .build();
+
+        paymentTransactionRepository.save(transaction);
+
+        // Log subscription event
+        SubscriptionEvent event = SubscriptionEvent.builder()
+                .team(team)
+                .subscriptionId(subscriptionId)
+                .stripeEventId(eventId)
+                .eventType(reactivatedFrom != null ? SubscriptionEvent.EventType.REACTIVATED : SubscriptionEvent.EventType.RENEWED)
+                .oldStatus(reactivatedFrom != null ? reactivatedFrom : oldStatus)
+                .newStatus("ACTIVE")
+                .build();
+
+        subscriptionEventRepository.save(event);
+
+        log.info("✓ Subscription payment succeeded: teamId={}, subscriptionId={}", team.getId(), subscriptionId);
+    }
 
-            log.info("✓ Subscription payment succeeded: teamId={}, subscriptionId={}", team.getId(), subscriptionId);
+    @Transactional
+    public void handleInvoicePaymentFailed(String eventId, Invoice invoice) {
+        String invoiceId = invoice.getId();
+        log.info("WEBHOOK: Processing invoice.payment_failed: eventId={}, invoiceId={}", eventId, invoiceId);
 
-        } catch (StripeException e) {
-            log.error("Failed to retrieve invoice: invoiceId={}, error={}", invoiceId, e.getMessage(), e);
-            throw new BadRequestException("Failed to process invoice: " + e.getMessage());
+        // Redelivered or retried event whose effects are already committed
+        if (subscriptionEventRepository.existsByStripeEventId(eventId)) {
+            log.info("WEBHOOK: Skipping already processed event: eventId={}, invoiceId={}", eventId, invoiceId);
+            return;
         }
-    }
 
-    @Transactional
-    public void handleInvoicePaymentFailed(String invoiceId) {
-        log.info("WEBHOOK: Processing invoice.payment_failed: invoiceId={}", invoiceId);
+        // Get subscription ID from invoice lines
+        String subscriptionId = null;
+        if (invoice.getLines() != null && invoice.getLines().getData().size() > 0) {
+            subscriptionId = invoice.getLines().getData().get(0).getSubscription();
+        }
 
-        try {
-            Invoice invoice = Invoice.retrieve(invoiceId);
-            // Get subscription ID from invoice lines
-            String subscriptionId = null;
-            if (invoice.getLines() != null && invoice.getLines().getData().size() > 0) {
-                subscriptionId = invoice.getLines().getData().get(0).getSubscription();
-            }
+        if (subscriptionId == null) {
+            log.warn("Invoice has no subscription: invoiceId={}", invoiceId);
+            return;
+        }
 
-            if (subscriptionId == null) {
-                log.warn("Invoice has no subscription: invoiceId={}", invoiceId);
-                return;
-            }
+        // Find team by subscription ID, locked so concurrent invoice events for it apply one at a time
+        Team team = teamRepository.findBySubscriptionIdForUpdate(subscriptionId)
+                .orElse(null);
 
-            // Find team by subscription ID
-            Team team = teamRepository.findBySubscriptionId(subscriptionId)
-                    .orElse(null);
+        if (team == null) {
+            log.warn("No team found for subscription: subscriptionId={}", subscriptionId);
+            return;
+        }
 
-            if (team == null) {
-                log.warn("No team found for subscription: subscriptionId={}", subscriptionId);
-                return;
-            }
+        log.info("Processing failed subscription payment: teamId={}, subscriptionId={}",
+                 team.getId(), subscriptionId);
 
-            log.info("Processing failed subscription payment: teamId={}, subscriptionId={}",
-                     team.getId(), subscriptionId);
+        // Workers apply events out of order, so this failure may be for a period a later payment
+        // has already covered; acting on it would put a paid-up team into grace
+        Instant periodEnd = invoicePeriodEnd(invoice);
+        if (periodEnd != null && team.getSubscriptionCurrentPeriodEnd() != null
+                && !periodEnd.isAfter(team.getSubscriptionCurrentPeriodEnd())) {
+            log.info("WEBHOOK: Ignoring payment failure for an already paid period: eventId={}, invoiceId={}, " +
+                     "periodEnd={}, paidThrough={}", eventId, invoiceId, periodEnd, team.getSubscriptionCurrentPeriodEnd());
+            return;
+        }
 
-            String oldStatus = team.getSubscriptionStatus() != null ? team.getSubscriptionStatus().name() : null;
+        String oldStatus = team.getSubscriptionStatus() != null ? team.getSubscriptionStatus().name() : null;
 
-            // Update team subscription status to PAST_DUE
-            team.setSubscriptionStatus(Team.SubscriptionStatus.PAST_DUE);
-            // Optionally mark team as ineligible (could implement grace period)
-            // team.setIsEligible(false);
+        // Update team subscription status to PAST_DUE; eligibility is kept until the grace period expires
+        team.setSubscriptionStatus(Team.SubscriptionStatus.PAST_DUE);
 
-            teamRepository.save(team);
+        teamRepository.save(team);
+        subscriptionGraceService.onPaymentFailed(team, subscriptionId, Instant.now());
 
-            // Log subscription event
-            SubscriptionEvent event = SubscriptionEvent.builder()
-                    .team(team)
-                    .subscriptionId(subscriptionId)
-                    .eventType(SubscriptionEvent.EventType.PAYMENT_FAILED)
-                    .oldStatus(oldStatus)
-                    .newStatus("PAST_DUE")
-                    .build();
+        // Log subscription event
+        SubscriptionEvent event = SubscriptionEvent.builder()
+                .team(team)
+                .subscriptionId(subscriptionId)
+                .stripeEventId(eventId)
+                .eventType(SubscriptionEvent.EventType.PAYMENT_FAILED)
+                .oldStatus(oldStatus)
+                .newStatus("PAST_DUE")
+                .build();
 
-            subscriptionEventRepository.save(event);
+        subscriptionEventRepository.save(event);
 
-            log.warn("⚠ Subscription payment failed: teamId={}, subscriptionId={}", team.getId(), subscriptionId);
+        log.warn("⚠ Subscription payment failed: teamId={}, subscriptionId={}", team.getId(), subscriptionId);
+    }
 
-        } catch (StripeException e) {
-            log.error("Failed to retrieve invoice: invoiceId={}, error={}", invoiceId, e.getMessage(), e);
-            throw new BadRequestException("Failed to process failed invoice: " + e.getMessage());
+    private static Instant invoicePeriodEnd(Invoice invoice) {
+        if (invoice.getLines() == null || invoice.getLines().getData().isEmpty()) {
+            return null;
         }
+        var period = invoice.getLines().getData().get(0).getPeriod();
+        return period != null && period.getEnd() != null ? Instant.ofEpochSecond(period.getEnd()) : null;
     }
 }
@@ -0,0 +1,120 @@
+package com.leaguehq.service;
+
+import com.leaguehq.model.StripeWebhookEvent;
+import com.leaguehq.repository.StripeWebhookEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StripeWebhookInbox {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final StripeWebhookEventRepository webhookEventRepository;
+
+    @Value("${stripe.webhook-worker.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${stripe.webhook-worker.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${stripe.webhook-worker.initial-backoff-seconds:10}")
+    private long initialBackoffSeconds;
+
+    @Value("${stripe.webhook-worker.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    @Transactional
+    public boolean enqueue(String stripeEventId, String eventType, String payload) {
+        boolean inserted = webhookEventRepository.insertIfAbsent(stripeEventId, eventType, payload) > 0;
+        if (!inserted) {
+            log.info("Duplicate webhook delivery ignored: eventId={}", stripeEventId);
+        }
+        return inserted;
+    }
+
+    // Leases up to `limit` due events to the caller. The row locks only last for this short
+    // transaction; the lease (locked_until) is what keeps other workers away during processing.
+    @Transactional
+    public List<StripeWebhookEvent> claimDueEvents(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        Instant now = Instant.now();
+        List<StripeWebhookEvent> claimed = new ArrayList<>();
+
+        for (StripeWebhookEvent event : webhookEventRepository.lockDueEvents(now, limit)) {
+            if (event.getAttempts() >= maxAttempts) {
+                // Worker died mid-attempt on its last try
+                event.setStatus(StripeWebhookEvent.Status.DEAD);
+                event.setLockedUntil(null);
+                log.error("Webhook event dead-lettered after lease expiry: eventId={}, type={}, attempts={}",
+                        event.getStripeEventId(), event.getEventType(), event.getAttempts());
+                continue;
+            }
+
+            event.setStatus(StripeWebhookEvent.Status.PROCESSING);
+            event.setAttempts(event.getAttempts() + 1);
+            event.setLockedUntil(now.plusSeconds(leaseSeconds));
+            claimed.add(event);
+        }
+
+        return claimed;
+    }
+
+    @Transactional
+    public void markProcessed(UUID id) {
+        webhookEventRepository.findById(id).ifPresent(event -> {
+            event.setStatus(StripeWebhookEvent.Status.PROCESSED);
+            event.setLockedUntil(null);
+            event.setLastError(null);
+            event.setProcessedAt(Instant.now());
+        });
+    }
+
+    @Transactional
+    public void markFailed(UUID id, Exception error) {
+        webhookEventRepository.findById(id).ifPresent(event -> {
+            event.setLockedUntil(null);
+            event.setLastError(truncate(error.getClass().getSimpleName() + ": " + error.getMessage()));
+
+            if (event.getAttempts() >= maxAttempts) {
+                event.setStatus(StripeWebhookEvent.Status.DEAD);
+                log.error("Webhook event dead-lettered: eventId={}, type={}, attempts={}",
+                        event.getStripeEventId(), event.getEventType(), event.getAttempts());
+                return;
+            }
+
+            Duration backoff = backoff(event.getAttempts());
+            event.setStatus(StripeWebhookEvent.Status.RETRY);
+            event.setNextAttemptAt(Instant.now().plus(backoff));
+            log.warn("Webhook event scheduled for retry: eventId={}, type={}, attempt={}, retryIn={}s",
+                    event.getStripeEventId(), event.getEventType(), event.getAttempts(), backoff.toSeconds());
+        });
+    }
+
+    // Exponential backoff with +/-20% jitter so a burst of failures does not retry in lockstep
+    private Duration backoff(int attempts) {
+        long exponential = initialBackoffSeconds << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, maxBackoffSeconds);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * 1000 * jitter));
+    }
+
+    private String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
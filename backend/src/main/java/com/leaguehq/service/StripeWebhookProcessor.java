@@ -0,0 +1,131 @@
+package com.leaguehq.service;
+
+import com.google.gson.JsonParser;
+import com.stripe.exception.StripeException;
+import com.stripe.model.Account;
+import com.stripe.model.Event;
+import com.stripe.model.EventDataObjectDeserializer;
+import com.stripe.model.Invoice;
+import com.stripe.model.StripeObject;
+import com.stripe.model.checkout.Session;
+import com.leaguehq.cache.BoundedTtlCache;
+import com.leaguehq.repository.SubscriptionEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.Set;
+
+// Routes a verified Stripe event to its StripeService handler. Exceptions propagate so the
+// inbox worker can schedule a retry. Handlers get the typed object from the event payload;
+// Stripe is only called when that payload can't be used, and never inside a DB transaction.
+@Service
+@Slf4j
+public class StripeWebhookProcessor {
+
+    private static final Set<String> HANDLED_EVENT_TYPES = Set.of(
+            "account.updated",
+            "checkout.session.completed",
+            "invoice.payment_succeeded",
+            "invoice.payment_failed"
+    );
+
+    // Handlers that record the event id on their subscription_events row
+    private static final Set<String> RECORDED_EVENT_TYPES = Set.of(
+            "checkout.session.completed",
+            "invoice.payment_succeeded",
+            "invoice.payment_failed"
+    );
+
+    private final StripeService stripeService;
+    private final SubscriptionEventRepository subscriptionEventRepository;
+    // Fast path for recently processed event ids; the unique stripe_event_id
+    // constraints behind the handlers remain the source of truth
+    private final BoundedTtlCache<String, Boolean> processedEventCache;
+
+    public StripeWebhookProcessor(StripeService stripeService,
+                                  SubscriptionEventRepository subscriptionEventRepository,
+                                  @Qualifier("processedStripeEventCache") BoundedTtlCache<String, Boolean> processedEventCache) {
+        this.stripeService = stripeService;
+        this.subscriptionEventRepository = subscriptionEventRepository;
+        this.processedEventCache = processedEventCache;
+    }
+
+    public boolean handles(String eventType) {
+        return HANDLED_EVENT_TYPES.contains(eventType);
+    }
+
+    public boolean isRecentlyProcessed(String eventId) {
+        return processedEventCache.getIfPresent(eventId) != null;
+    }
+
+    public void process(Event event) throws StripeException {
+        if (isRecentlyProcessed(event.getId())) {
+            log.info("Skipping already processed webhook event: type={}, id={}", event.getType(), event.getId());
+            return;
+        }
+
+        // A stale payload means a Stripe fetch; an event another instance (or this one before a
+        // restart) already applied is dropped first, as its handler would skip it anyway
+        if (event.getDataObjectDeserializer().getObject().isEmpty()
+                && RECORDED_EVENT_TYPES.contains(event.getType())
+                && subscriptionEventRepository.existsByStripeEventId(event.getId())) {
+            log.info("Skipping already applied webhook event: type={}, id={}", event.getType(), event.getId());
+            processedEventCache.put(event.getId(), Boolean.TRUE);
+            return;
+        }
+
+        log.info("Processing webhook event: type={}, id={}", event.getType(), event.getId());
+
+        switch (event.getType()) {
+            case "account.updated":
+                stripeService.handleAccountUpdated(
+                        payloadObject(event, Account.class, Account::retrieve));
+                break;
+
+            case "checkout.session.completed":
+                stripeService.handleCheckoutSessionCompleted(event.getId(),
+                        payloadObject(event, Session.class, Session::retrieve));
+                break;
+
+            case "invoice.payment_succeeded":
+                stripeService.handleInvoicePaymentSucceeded(event.getId(),
+                        payloadObject(event, Invoice.class, Invoice::retrieve));
+                break;
+
+            case "invoice.payment_failed":
+                stripeService.handleInvoicePaymentFailed(event.getId(),
+                        payloadObject(event, Invoice.class, Invoice::retrieve));
+                break;
+
+            default:
+                log.info("Unhandled event type: {}", event.getType());
+        }
+
+        processedEventCache.put(event.getId(), Boolean.TRUE);
+    }
+
+    // The deserializer yields nothing when the event was rendered with a different API version
+    // than this library pins; only then do we fetch a current copy by id.
+    private <T extends StripeObject> T payloadObject(Event event, Class<T> type, StripeFetcher<T> fetcher)
+            throws StripeException {
+        EventDataObjectDeserializer deserializer = event.getDataObjectDeserializer();
+        Optional<StripeObject> object = deserializer.getObject();
+
+        if (object.isPresent() && type.isInstance(object.get())) {
+            return type.cast(object.get());
+        }
+
+        String objectId = JsonParser.parseString(deserializer.getRawJson())
+                .getAsJsonObject().get("id").getAsString();
+        log.warn("Webhook payload unusable, fetching from Stripe: eventId={}, apiVersion={}, objectId={}",
+                event.getId(), event.getApiVersion(), objectId);
+        return fetcher.fetch(objectId);
+    }
+
+    @FunctionalInterface
+    private interface StripeFetcher<T> {
+        T fetch(String id) throws StripeException;
+    }
+}
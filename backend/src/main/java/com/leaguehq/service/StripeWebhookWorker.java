@@ -0,0 +1,87 @@
+package com.leaguehq.service;
+
+import com.leaguehq.model.StripeWebhookEvent;
+import com.stripe.model.Event;
+import com.stripe.net.ApiResource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+// Drains the webhook inbox on a bounded pool. Claims are sized to the free worker slots,
+// so events never pile up in an in-memory queue where a restart would strand them.
+@Component
+@Slf4j
+public class StripeWebhookWorker {
+
+    private final StripeWebhookInbox inbox;
+    private final StripeWebhookProcessor processor;
+    private final TaskExecutor executor;
+    private final Semaphore slots;
+
+    public StripeWebhookWorker(StripeWebhookInbox inbox,
+                               StripeWebhookProcessor processor,
+                               @Qualifier("stripeWebhookExecutor") TaskExecutor executor,
+                               @Value("${stripe.webhook-worker.threads:4}") int threads) {
+        this.inbox = inbox;
+        this.processor = processor;
+        this.executor = executor;
+        this.slots = new Semaphore(threads);
+    }
+
+    @Scheduled(fixedDelayString = "${stripe.webhook-worker.poll-interval-ms:500}")
+    public void drain() {
+        int free = slots.availablePermits();
+        if (free == 0) {
+            return;
+        }
+
+        List<StripeWebhookEvent> events;
+        try {
+            events = inbox.claimDueEvents(free);
+        } catch (Exception e) {
+            log.error("Failed to claim webhook events: {}", e.getMessage());
+            return;
+        }
+
+        for (StripeWebhookEvent event : events) {
+            slots.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    try {
+                        process(event);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // Executor shutting down; the lease expires and another worker picks it up
+                slots.release();
+                log.warn("Could not dispatch webhook event: eventId={}, error={}", event.getStripeEventId(), e.getMessage());
+            }
+        }
+    }
+
+    private void process(StripeWebhookEvent inboxEvent) {
+        try {
+            Event event = ApiResource.GSON.fromJson(inboxEvent.getPayload(), Event.class);
+            processor.process(event);
+            inbox.markProcessed(inboxEvent.getId());
+        } catch (Exception e) {
+            log.error("Error processing webhook: type={}, id={}, attempt={}, error={}",
+                    inboxEvent.getEventType(), inboxEvent.getStripeEventId(), inboxEvent.getAttempts(), e.getMessage(), e);
+            try {
+                inbox.markFailed(inboxEvent.getId(), e);
+            } catch (Exception markError) {
+                // Lease expiry will hand the event out again
+                log.error("Failed to record webhook failure: eventId={}, error={}",
+                        inboxEvent.getStripeEventId(), markError.getMessage());
+            }
+        }
+    }
+}
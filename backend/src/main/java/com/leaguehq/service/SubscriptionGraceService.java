@@ -0,0 +1,154 @@
+package com.leaguehq.service;
+
+import com.leaguehq.model.SubscriptionEvent;
+import com.leaguehq.model.SubscriptionEvent.EventType;
+import com.leaguehq.model.SubscriptionGraceTimer;
+import com.leaguehq.model.Team;
+import com.leaguehq.model.Team.SubscriptionStatus;
+import com.leaguehq.repository.SubscriptionEventJdbcRepository;
+import com.leaguehq.repository.SubscriptionEventJdbcRepository.TeamSubscription;
+import com.leaguehq.repository.SubscriptionEventRepository;
+import com.leaguehq.repository.SubscriptionGraceTimerRepository;
+import com.leaguehq.repository.TeamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Subscription eligibility state machine:
+//
+//   ACTIVE --payment failed--> GRACE_PERIOD --grace expired--> SUSPENDED
+//      ^                             |                             |
+//      +-------payment succeeded-----+-------payment succeeded-----+
+//
+// GRACE_PERIOD is PAST_DUE while still eligible, with a row in subscription_grace_timers;
+// SUSPENDED is PAST_DUE and ineligible. Expiry is driven by SubscriptionGraceWorker firing the
+// timer, never by scanning teams. Transitions are recorded as subscription events.
+@Service
+@Slf4j
+public class SubscriptionGraceService {
+
+    static final String GRACE_PERIOD = "GRACE_PERIOD";
+    static final String SUSPENDED = "SUSPENDED";
+
+    private static final Duration BUSY_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final TeamRepository teamRepository;
+    private final SubscriptionGraceTimerRepository timerRepository;
+    private final SubscriptionEventRepository subscriptionEventRepository;
+    private final SubscriptionEventJdbcRepository subscriptionEventJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration gracePeriod;
+
+    public SubscriptionGraceService(TeamRepository teamRepository,
+                                    SubscriptionGraceTimerRepository timerRepository,
+                                    SubscriptionEventRepository subscriptionEventRepository,
+                                    SubscriptionEventJdbcRepository subscriptionEventJdbcRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${subscription.grace-period-hours:168}") long gracePeriodHours) {
+        this.teamRepository = teamRepository;
+        this.timerRepository = timerRepository;
+        this.subscriptionEventRepository = subscriptionEventRepository;
+        this.subscriptionEventJdbcRepository = subscriptionEventJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.gracePeriod = Duration.ofHours(gracePeriodHours);
+    }
+
+    // Called after a failed renewal has set PAST_DUE. Only an eligible team enters grace; a team
+    // already in grace keeps its original deadline and a suspended one stays suspended.
+    @Transactional
+    public void onPaymentFailed(Team team, String subscriptionId, Instant now) {
+        if (!Boolean.TRUE.equals(team.getIsEligible())) {
+            return;
+        }
+
+        Instant dueAt = now.plus(gracePeriod);
+        if (timerRepository.insertIfAbsent(team.getId(), dueAt) == 0) {
+            return;
+        }
+
+        subscriptionEventRepository.save(SubscriptionEvent.builder()
+                .team(team)
+                .subscriptionId(subscriptionId)
+                .eventType(EventType.GRACE_PERIOD_STARTED)
+                .oldStatus(SubscriptionStatus.ACTIVE.name())
+                .newStatus(GRACE_PERIOD)
+                .build());
+        eventPublisher.publishEvent(new GracePeriodTimerChangedEvent(team.getId(), dueAt));
+
+        log.info("Grace period started: teamId={}, dueAt={}", team.getId(), dueAt);
+    }
+
+    // Called before a successful payment restores ACTIVE. Returns the state the team is leaving
+    // when it was in grace or suspended (the caller records it as a reactivation), else null.
+    // The team must be loaded with findBySubscriptionIdForUpdate, so its eligibility reflects a
+    // grace expiry that committed while the webhook was waiting.
+    @Transactional
+    public String onPaymentSucceeded(Team team) {
+        boolean inGrace = timerRepository.deleteByTeamId(team.getId()) > 0;
+        if (inGrace) {
+            eventPublisher.publishEvent(new GracePeriodTimerChangedEvent(team.getId(), null));
+            return GRACE_PERIOD;
+        }
+        if (team.getSubscriptionStatus() == SubscriptionStatus.PAST_DUE && !Boolean.TRUE.equals(team.getIsEligible())) {
+            return SUSPENDED;
+        }
+        return null;
+    }
+
+    // Suspends every team among teamIds whose grace period has run out: one claim, one UPDATE,
+    // one batched event insert and one DELETE however many timers fired together. Timers that
+    // are locked elsewhere are skipped; whoever holds them decides their fate. Teams locked by a
+    // payment webhook keep their timer and are retried shortly, since waiting for them while
+    // holding timer locks that webhook may need would deadlock.
+    @Transactional
+    public int expireGracePeriods(Collection<UUID> teamIds, Instant now) {
+        List<UUID> claimed = timerRepository.lockDueTimers(teamIds, now).stream()
+                .map(SubscriptionGraceTimer::getTeamId)
+                .toList();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> expired = new ArrayList<>(claimed.size());
+        List<TeamSubscription> suspended = new ArrayList<>(claimed.size());
+        for (Object[] row : teamRepository.lockSubscriptionsByIdIn(claimed)) {
+            UUID teamId = (UUID) row[0];
+            expired.add(teamId);
+            if (SubscriptionStatus.PAST_DUE.name().equals(row[2]) && Boolean.TRUE.equals(row[3])) {
+                suspended.add(new TeamSubscription(teamId, (String) row[1]));
+            }
+        }
+
+        if (!suspended.isEmpty()) {
+            List<UUID> ids = suspended.stream().map(TeamSubscription::teamId).toList();
+            teamRepository.suspendEligibility(ids, SubscriptionStatus.PAST_DUE, now);
+            subscriptionEventJdbcRepository.insertAll(suspended, EventType.PAST_DUE, GRACE_PERIOD, SUSPENDED, now);
+        }
+        if (!expired.isEmpty()) {
+            timerRepository.deleteByTeamIdIn(expired);
+        }
+
+        int busy = claimed.size() - expired.size();
+        if (busy > 0) {
+            Set<UUID> done = new HashSet<>(expired);
+            Instant retryAt = now.plus(BUSY_RETRY_DELAY);
+            claimed.stream()
+                    .filter(teamId -> !done.contains(teamId))
+                    .forEach(teamId -> eventPublisher.publishEvent(new GracePeriodTimerChangedEvent(teamId, retryAt)));
+        }
+
+        log.info("Grace periods expired: timers={}, suspended={}, busy={}", claimed.size(), suspended.size(), busy);
+        return suspended.size();
+    }
+}
@@ -0,0 +1,108 @@
+package com.leaguehq.service;
+
+import com.leaguehq.repository.SubscriptionGraceTimerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// Fires grace period expiries from an in-memory timing wheel loaded from
+// subscription_grace_timers, so a team is suspended within a tick of its deadline without any
+// query over teams. Timers that come due in the same tick are expired together in chunks.
+//
+// The table is the source of truth: the wheel is rebuilt from it on boot (deadlines that passed
+// while the app was down fire on the first tick) and resynced periodically to pick up timers
+// started on other instances. Expiry claims rows with SKIP LOCKED and deletes them, so
+// instances firing the same timer suspend the team once.
+@Component
+@Slf4j
+public class SubscriptionGraceWorker {
+
+    private static final int EXPIRE_CHUNK_SIZE = 500;
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final SubscriptionGraceTimerRepository timerRepository;
+    private final SubscriptionGraceService graceService;
+    private final TimingWheel<UUID> wheel;
+
+    public SubscriptionGraceWorker(SubscriptionGraceTimerRepository timerRepository,
+                                   SubscriptionGraceService graceService,
+                                   @Value("${subscription.grace-tick-ms:1000}") long tickMillis) {
+        this.timerRepository = timerRepository;
+        this.graceService = graceService;
+        this.wheel = new TimingWheel<>(Duration.ofMillis(tickMillis), Instant.now());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int loaded = rebuild();
+        log.info("Grace period timers loaded: timers={}", loaded);
+    }
+
+    @Scheduled(initialDelayString = "${subscription.grace-resync-interval-ms:900000}",
+               fixedDelayString = "${subscription.grace-resync-interval-ms:900000}")
+    public void resync() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to resync grace period timers: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${subscription.grace-tick-ms:1000}")
+    public void fireDue() {
+        Instant now = Instant.now();
+        List<UUID> due = advance(now);
+        for (int from = 0; from < due.size(); from += EXPIRE_CHUNK_SIZE) {
+            List<UUID> chunk = due.subList(from, Math.min(from + EXPIRE_CHUNK_SIZE, due.size()));
+            try {
+                graceService.expireGracePeriods(chunk, now);
+            } catch (Exception e) {
+                log.error("Failed to expire grace periods: teams={}, error={}", chunk.size(), e.getMessage());
+                Instant retryAt = now.plus(RETRY_DELAY);
+                chunk.forEach(teamId -> schedule(teamId, retryAt));
+            }
+        }
+    }
+
+    // After commit, so a rolled-back payment never arms or disarms a timer
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTimerChanged(GracePeriodTimerChangedEvent event) {
+        if (event.dueAt() != null) {
+            schedule(event.teamId(), event.dueAt());
+        } else {
+            cancel(event.teamId());
+        }
+    }
+
+    private synchronized void schedule(UUID teamId, Instant dueAt) {
+        wheel.schedule(teamId, dueAt);
+    }
+
+    private synchronized void cancel(UUID teamId) {
+        wheel.cancel(teamId);
+    }
+
+    private synchronized List<UUID> advance(Instant now) {
+        return wheel.advance(now);
+    }
+
+    // Upserts rather than replaces, so events racing the query aren't lost; timers cancelled on
+    // another instance fire here as no-ops
+    private int rebuild() {
+        List<Object[]> rows = timerRepository.findAllDueTimes();
+        for (Object[] row : rows) {
+            schedule((UUID) row[0], (Instant) row[1]);
+        }
+        return rows.size();
+    }
+}
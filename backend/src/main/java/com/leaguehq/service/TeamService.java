@@ -21,14 +21,17 @@ import com.stripe.param.checkout.SessionCreateParams;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -39,6 +42,9 @@ public class TeamService {
     private final TeamRepository teamRepository;
     private final CompetitionRepository competitionRepository;
     private final UserRepository userRepository;
+    private final SeatReservationService seatReservationService;
+    private final RosterLockScheduler rosterLockScheduler;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${cors.allowed-origins:http://localhost:5173}")
     private String frontendUrl;
@@ -75,17 +81,19 @@ public class TeamService {
             throw new BadRequestException("Registration deadline has passed");
         }
 
-        // Check if competition is full
-        long registeredTeams = teamRepository.countRegisteredTeamsByCompetitionId(request.getCompetitionId());
-        if (registeredTeams >= competition.getMaxTeams()) {
-            throw new BadRequestException("Competition is full");
-        }
-
-        // Check if team name is unique in competition
+        // Cheap pre-check; the unique constraint below is the real guard
         if (teamRepository.existsByCompetitionIdAndName(request.getCompetitionId(), request.getTeamName())) {
             throw new BadRequestException("Team name already exists in this competition");
         }
 
+        // Atomically claim a seat; rolled back with the rest of the registration on failure
+        Instant seatExpiresAt = seatReservationService.reserveSeat(competition);
+
+        // Registering after the lock instant (e.g. under lock_at "competition_start" with no
+        // deadline) starts with a locked roster; the scheduler only locks teams that exist when it fires
+        Instant registeredAt = Instant.now();
+        boolean rosterLocked = rosterLockScheduler.isPastLock(competition, registeredAt);
+
         // Create team
         Team team = Team.builder()
                 .competition(competition)
@@ -94,43 +102,89 @@ public class TeamService {
                 .entryFeePaid(false)
                 .isEligible(true)
                 .rosterSize(0)
-                .rosterLocked(false)
-                .registeredAt(Instant.now())
+                .rosterLocked(rosterLocked)
+                .rosterLockedAt(rosterLocked ? registeredAt : null)
+                .registeredAt(registeredAt)
+                .seatExpiresAt(seatExpiresAt)
                 .build();
 
-        Team savedTeam = teamRepository.save(team);
-        log.info("Team created: id={}, name={}, competition={}", savedTeam.getId(), savedTeam.getName(), competition.getId());
+        Team savedTeam;
+        try {
+            savedTeam = teamRepository.saveAndFlush(team);
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent registration using the same name
+            throw new BadRequestException("Team name already exists in this competition");
+        }
+        log.info("Team created: id={}, name={}, competition={}, seatExpiresAt={}",
+                savedTeam.getId(), savedTeam.getName(), competition.getId(), seatExpiresAt);
 
         return savedTeam;
     }
 
-    @Transactional
+    // Three steps so no database lock is held across the Stripe call: the seat hold is extended (or
+    // re-claimed) and committed, the session is created with no transaction open, and its id is
+    // recorded in a second short transaction. If Stripe fails, the committed hold simply runs out
+    // and the sweeper gives the seat back.
     public CheckoutSessionResponse createCheckoutSession(UUID teamId) {
         log.info("Creating checkout session for team: {}", teamId);
 
-        Team team = teamRepository.findById(teamId)
+        CheckoutDetails details = transactionTemplate.execute(status -> holdForCheckout(teamId));
+        Session session = createStripeSession(teamId, details);
+
+        transactionTemplate.executeWithoutResult(status ->
+                teamRepository.updateCheckoutSessionId(teamId, session.getId(), Instant.now()));
+
+        return CheckoutSessionResponse.builder()
+                .sessionUrl(session.getUrl())
+                .sessionId(session.getId())
+                .build();
+    }
+
+    // Locked so the seat sweeper cannot release the hold while it is being extended
+    private CheckoutDetails holdForCheckout(UUID teamId) {
+        Team team = teamRepository.findByIdForUpdate(teamId)
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found"));
 
         if (team.getEntryFeePaid()) {
             throw new BadRequestException("Team has already paid entry fee");
         }
 
+        Instant sessionExpiresAt = seatReservationService.holdForCheckout(team);
+
         Competition competition = team.getCompetition();
-        BigDecimal entryFee = competition.getEntryFee();
+        return new CheckoutDetails(
+                team.getName(),
+                competition.getId(),
+                competition.getName(),
+                competition.getEntryFee(),
+                competition.getPlatformFeePercentage(),
+                competition.getOwner().getStripeConnectAccountId(),
+                sessionExpiresAt);
+    }
+
+    // Everything the Stripe session needs, read while the team row was locked
+    private record CheckoutDetails(String teamName, UUID competitionId, String competitionName,
+                                   BigDecimal entryFee, BigDecimal platformFeePercentage,
+                                   String stripeAccountId, Instant sessionExpiresAt) {
+    }
+
+    private Session createStripeSession(UUID teamId, CheckoutDetails details) {
+        BigDecimal entryFee = details.entryFee();
 
         try {
-            String stripeAccountId = competition.getOwner().getStripeConnectAccountId();
+            String stripeAccountId = details.stripeAccountId();
 
             // Create Stripe Checkout Session in SUBSCRIPTION mode
             // This allows combining one-time (entry fee) + recurring (subscription) items
             SessionCreateParams.Builder paramsBuilder = SessionCreateParams.builder()
                     .setMode(SessionCreateParams.Mode.SUBSCRIPTION)
                     .setSuccessUrl(frontendUrl + "/teams/registration/success?session_id={CHECKOUT_SESSION_ID}")
-                    .setCancelUrl(frontendUrl + "/competitions/" + competition.getId())
+                    .setCancelUrl(frontendUrl + "/competitions/" + details.competitionId())
                     .putMetadata("team_id", teamId.toString())
-                    .putMetadata("competition_id", competition.getId().toString())
-                    .putMetadata("team_name", team.getName())
-                    .putMetadata("competition_name", competition.getName())
+                    .putMetadata("competition_id", details.competitionId().toString())
+                    .putMetadata("team_name", details.teamName())
+                    .putMetadata("competition_name", details.competitionName())
+                    .setExpiresAt(details.sessionExpiresAt().getEpochSecond())
                     // Expand to reduce webhook round-trips
                     .addExpand("subscription")
                     .addExpand("latest_invoice.payment_intent")
@@ -145,8 +199,8 @@ public class TeamService {
                                                 .setCurrency("usd")
                                                 .setProductData(
                                                         SessionCreateParams.LineItem.PriceData.ProductData.builder()
-                                                                .setName(competition.getName() + " - Entry Fee")
-                                                                .setDescription("One-time entry fee for " + team.getName())
+                                                                .setName(details.competitionName() + " - Entry Fee")
+                                                                .setDescription("One-time entry fee for " + details.teamName())
                                                                 .build()
                                                 )
                                                 .setUnitAmount(entryFee.multiply(new BigDecimal(100)).longValue())
@@ -168,7 +222,7 @@ public class TeamService {
             // Set up Stripe Connect destination charge with platform fees
             if (stripeAccountId != null) {
                 // Calculate platform fee for entry fee (8% of entry fee goes to platform)
-                BigDecimal platformFeePercentage = competition.getPlatformFeePercentage();
+                BigDecimal platformFeePercentage = details.platformFeePercentage();
                 long entryFeePlatformFee = entryFee.multiply(platformFeePercentage)
                         .divide(new BigDecimal(100))
                         .multiply(new BigDecimal(100))
@@ -192,7 +246,7 @@ public class TeamService {
                         SessionCreateParams.SubscriptionData.builder()
                                 .setApplicationFeePercent(new BigDecimal("100.0")) // Platform keeps 100% of subscription
                                 .putMetadata("team_id", teamId.toString())
-                                .putMetadata("competition_id", competition.getId().toString())
+                                .putMetadata("competition_id", details.competitionId().toString())
                                 .setTransferData(
                                         SessionCreateParams.SubscriptionData.TransferData.builder()
                                                 .setDestination(stripeAccountId)
@@ -206,11 +260,7 @@ public class TeamService {
             Session session = Session.create(paramsBuilder.build());
 
             log.info("Checkout session created: sessionId={}, teamId={}", session.getId(), teamId);
-
-            return CheckoutSessionResponse.builder()
-                    .sessionUrl(session.getUrl())
-                    .sessionId(session.getId())
-                    .build();
+            return session;
 
         } catch (StripeException e) {
             log.error("Failed to create checkout session: teamId={}, error={}", teamId, e.getMessage(), e);
@@ -218,6 +268,20 @@ public class TeamService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getMyTeamsVersion(UUID coachId) {
+        Object[] row = teamRepository.findVersionByCoachId(coachId).get(0);
+        return ResourceVersion.of("mt", row[0], row[1], row[2]);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getTeamVersion(UUID teamId, UUID userId) {
+        return teamRepository.findVersionByIdForUser(teamId, userId).stream()
+                .findFirst()
+                .map(row -> ResourceVersion.of("t", row[0], row[1]));
+    }
+
+    @Transactional(readOnly = true)
     public List<TeamResponse> getMyTeams(UUID coachId) {
         log.info("Getting teams for coach: {}", coachId);
 
@@ -228,22 +292,29 @@ public class TeamService {
             throw new BadRequestException("Only coaches can view teams");
         }
 
-        List<Team> teams = teamRepository.findByCoachId(coachId);
+        List<Team> teams = teamRepository.findByCoachIdWithDetails(coachId);
 
         return teams.stream()
                 .map(TeamResponse::fromEntity)
                 .collect(java.util.stream.Collectors.toList());
     }
 
+    // Version and body from the same read-only transaction, version first, so the ETag sent
+    // with the body never describes a newer state than the body itself
+    @Transactional(readOnly = true)
+    public VersionedResponse<TeamResponse> getVersionedTeamById(UUID teamId, UUID userId) {
+        Optional<ResourceVersion> version = getTeamVersion(teamId, userId);
+        TeamResponse team = getTeamById(teamId, userId);
+        return new VersionedResponse<>(team, version.orElseThrow(() -> new ResourceNotFoundException("Team not found")));
+    }
+
+    @Transactional(readOnly = true)
     public TeamResponse getTeamById(UUID teamId, UUID userId) {
         log.info("Getting team: teamId={}, userId={}", teamId, userId);
 
-        Team team = teamRepository.findById(teamId)
+        Team team = teamRepository.findByIdWithDetails(teamId)
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found"));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
         // Verify access: coach owns the team or user is competition owner
         boolean isCoach = team.getCoach().getId().equals(userId);
         boolean isOwner = team.getCompetition().getOwner().getId().equals(userId);
@@ -255,25 +326,20 @@ public class TeamService {
         return TeamResponse.fromEntity(team);
     }
 
+    @Transactional(readOnly = true)
     public List<TeamResponse> getTeamsByCompetitionId(UUID competitionId) {
         log.info("Getting teams for competition: {}", competitionId);
 
-        // Verify competition exists
-        Competition competition = competitionRepository.findById(competitionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Competition not found"));
+        // Sorted by registration date (newest first, unregistered last) in SQL
+        List<Team> teams = teamRepository.findByCompetitionIdWithDetails(competitionId);
 
-        // Get all teams for this competition
-        List<Team> teams = teamRepository.findByCompetitionId(competitionId);
+        // Only an empty result needs to distinguish "no teams" from "no such competition"
+        if (teams.isEmpty() && !competitionRepository.existsById(competitionId)) {
+            throw new ResourceNotFoundException("Competition not found");
+        }
 
-        // Convert to responses and sort by registration date (newest first)
         return teams.stream()
                 .map(TeamResponse::fromEntity)
-                .sorted((t1, t2) -> {
-                    if (t1.getRegisteredAt() == null && t2.getRegisteredAt() == null) return 0;
-                    if (t1.getRegisteredAt() == null) return 1;
-                    if (t2.getRegisteredAt() == null) return -1;
-                    return t2.getRegisteredAt().compareTo(t1.getRegisteredAt());
-                })
                 .collect(java.util.stream.Collectors.toList());
     }
 
@@ -0,0 +1,43 @@
+package com.leaguehq.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Tiebreakers applied after points, in the order listed in competition.policy.tiebreakers
+public enum Tiebreaker {
+    GOAL_DIFF,
+    GOALS_FOR,
+    GOALS_AGAINST,
+    WINS,
+    HEAD_TO_HEAD;
+
+    public static final List<Tiebreaker> DEFAULT = List.of(GOAL_DIFF, GOALS_FOR, HEAD_TO_HEAD);
+
+    public static List<Tiebreaker> fromPolicy(Map<String, Object> policy) {
+        if (policy == null || !(policy.get("tiebreakers") instanceof List<?> names)) {
+            return DEFAULT;
+        }
+
+        List<Tiebreaker> order = new ArrayList<>(names.size());
+        for (Object name : names) {
+            Tiebreaker tiebreaker = parse(String.valueOf(name));
+            if (tiebreaker != null && !order.contains(tiebreaker)) {
+                order.add(tiebreaker);
+            }
+        }
+        return order;
+    }
+
+    private static Tiebreaker parse(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "goal_diff", "goal_difference" -> GOAL_DIFF;
+            case "goals_for" -> GOALS_FOR;
+            case "goals_against" -> GOALS_AGAINST;
+            case "wins" -> WINS;
+            case "head_to_head", "h2h" -> HEAD_TO_HEAD;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.leaguehq.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Hierarchical timing wheel: LEVELS wheels of SLOTS slots, where a slot at level L spans
+// SLOTS^L ticks. A timer sits at the lowest level whose window reaches its deadline and is
+// cascaded one level down each time the current tick enters its slot, so scheduling and
+// cancelling are O(1) and advancing costs one slot per tick plus the timers that move.
+// Deadlines beyond the top level's window are parked in its furthest slot and re-placed when
+// it comes round. Not thread-safe; callers synchronize.
+final class TimingWheel<K> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private record Timer(long deadline, Set<?> slot) {
+    }
+
+    private final long tickMillis;
+    private final Set<K>[][] wheels;
+    private final Map<K, Timer> timers = new HashMap<>();
+    private final Set<K> expired = new LinkedHashSet<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(Duration tick, Instant start) {
+        this.tickMillis = tick.toMillis();
+        this.wheels = new Set[LEVELS][SLOTS];
+        for (Set<K>[] wheel : wheels) {
+            for (int i = 0; i < SLOTS; i++) {
+                wheel[i] = new HashSet<>();
+            }
+        }
+        this.currentTick = Math.floorDiv(start.toEpochMilli(), tickMillis);
+    }
+
+    int size() {
+        return timers.size() + expired.size();
+    }
+
+    // Schedules or moves a timer; deadlines already reached fire on the next advance()
+    void schedule(K key, Instant due) {
+        cancel(key);
+        place(key, Math.floorDiv(due.toEpochMilli() + tickMillis - 1, tickMillis));
+    }
+
+    void cancel(K key) {
+        Timer timer = timers.remove(key);
+        if (timer != null) {
+            timer.slot().remove(key);
+        }
+        expired.remove(key);
+    }
+
+    // Moves the wheel up to `now` and returns the keys whose deadlines passed, in firing order
+    List<K> advance(Instant now) {
+        long target = Math.floorDiv(now.toEpochMilli(), tickMillis);
+        if (timers.isEmpty() && target > currentTick) {
+            currentTick = target;
+        }
+
+        while (currentTick < target) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(wheels[level][(int) ((currentTick >> (SLOT_BITS * level)) & MASK)]);
+                }
+            }
+            Set<K> slot = wheels[0][(int) (currentTick & MASK)];
+            for (K key : slot) {
+                timers.remove(key);
+                expired.add(key);
+            }
+            slot.clear();
+        }
+
+        List<K> fired = new ArrayList<>(expired);
+        expired.clear();
+        return fired;
+    }
+
+    private void cascade(Set<K> slot) {
+        List<K> keys = new ArrayList<>(slot);
+        slot.clear();
+        for (K key : keys) {
+            place(key, timers.remove(key).deadline());
+        }
+    }
+
+    private void place(K key, long deadline) {
+        if (deadline <= currentTick) {
+            expired.add(key);
+            return;
+        }
+
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if ((deadline >> shift) - (currentTick >> shift) < SLOTS) {
+                add(key, deadline, wheels[level][(int) ((deadline >> shift) & MASK)]);
+                return;
+            }
+        }
+
+        int shift = SLOT_BITS * (LEVELS - 1);
+        add(key, deadline, wheels[LEVELS - 1][(int) (((currentTick >> shift) + MASK) & MASK)]);
+    }
+
+    private void add(K key, long deadline, Set<K> slot) {
+        slot.add(key);
+        timers.put(key, new Timer(deadline, slot));
+    }
+}
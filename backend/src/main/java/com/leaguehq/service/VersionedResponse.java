@@ -0,0 +1,7 @@
+package com.leaguehq.service;
+
+// A response body together with the validators it was built from. The version is read before
+// the body, so the body is never older than its ETag: a client can store the pair and revalidate
+// without ever pinning a representation that predates the version it was told about.
+public record VersionedResponse<T>(T body, ResourceVersion version) {
+}
@@ -0,0 +1,59 @@
+package com.leaguehq.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+// Filesystem storage for tests and local development (photos.storage=local)
+@Component
+@ConditionalOnProperty(name = "photos.storage", havingValue = "local")
+@Slf4j
+public class LocalPhotoStorage implements PhotoStorage {
+
+    private final Path root;
+    private final String publicBaseUrl;
+
+    public LocalPhotoStorage(@Value("${photos.local.directory:./data/photos}") String directory,
+                             @Value("${photos.local.public-base-url:/photos}") String publicBaseUrl) {
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+        this.publicBaseUrl = publicBaseUrl.replaceAll("/+$", "");
+    }
+
+    // Cache-Control is left to whatever serves the directory
+    @Override
+    public String put(String key, InputStream content, long contentLength, String contentType, String cacheControl) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.copy(content, target, StandardCopyOption.REPLACE_EXISTING);
+        return publicBaseUrl + "/" + key;
+    }
+
+    @Override
+    public void deleteByUrl(String url) {
+        String prefix = publicBaseUrl + "/";
+        if (url == null || !url.startsWith(prefix)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(resolve(url.substring(prefix.length())));
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Failed to delete local photo: url={}, error={}", url, e.getMessage());
+        }
+    }
+
+    private Path resolve(String key) {
+        Path target = root.resolve(key).normalize();
+        if (!target.startsWith(root)) {
+            throw new IllegalArgumentException("Photo key escapes storage root: " + key);
+        }
+        return target;
+    }
+}
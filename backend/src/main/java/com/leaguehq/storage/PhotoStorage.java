@@ -0,0 +1,18 @@
+package com.leaguehq.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// Object storage for processed photos. Implementations stream the content to the backend and
+// return the public URL the object is served from.
+public interface PhotoStorage {
+
+    // Keys are content-addressed, so objects never change once written and may be cached
+    // indefinitely by browsers and the CDN in front of the public URL
+    String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    String put(String key, InputStream content, long contentLength, String contentType, String cacheControl) throws IOException;
+
+    // Best effort; URLs not issued by this storage are ignored
+    void deleteByUrl(String url);
+}
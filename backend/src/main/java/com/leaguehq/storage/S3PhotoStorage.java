@@ -0,0 +1,64 @@
+package com.leaguehq.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.InputStream;
+
+// S3 or Cloudflare R2 (via aws.s3.endpoint). Objects are written with a single streaming PUT
+// of known length; processed photos are capped well below S3's 5MB minimum multipart part,
+// so a multipart upload would only add round trips.
+@Component
+@ConditionalOnProperty(name = "photos.storage", havingValue = "s3", matchIfMissing = true)
+@Slf4j
+public class S3PhotoStorage implements PhotoStorage {
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String publicBaseUrl;
+
+    public S3PhotoStorage(S3Client s3Client,
+                          @Value("${aws.s3.bucket-name}") String bucket,
+                          @Value("${aws.s3.region}") String region,
+                          @Value("${aws.s3.public-base-url:}") String publicBaseUrl) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.publicBaseUrl = publicBaseUrl.isBlank()
+                ? "https://" + bucket + ".s3." + region + ".amazonaws.com"
+                : publicBaseUrl.replaceAll("/+$", "");
+    }
+
+    @Override
+    public String put(String key, InputStream content, long contentLength, String contentType, String cacheControl) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .cacheControl(cacheControl)
+                        .build(),
+                RequestBody.fromInputStream(content, contentLength));
+
+        return publicBaseUrl + "/" + key;
+    }
+
+    @Override
+    public void deleteByUrl(String url) {
+        String prefix = publicBaseUrl + "/";
+        if (url == null || !url.startsWith(prefix)) {
+            return;
+        }
+        String key = url.substring(prefix.length());
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete photo object: key={}, error={}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- V10: Player photo variants
+-- Each upload is stored as several renditions under content-addressed keys
+-- (players/{sha256}/{variant}-{size}.jpg). photo_hash identifies the source image so identical
+-- re-uploads are detected without decoding; photo_variants maps variant name to public URL.
+-- photo_url keeps pointing at the full-size rendition for existing clients.
+
+ALTER TABLE players ADD COLUMN photo_hash VARCHAR(64);
+ALTER TABLE players ADD COLUMN photo_variants JSONB;
+
+CREATE INDEX idx_players_photo_hash ON players(photo_hash) WHERE photo_hash IS NOT NULL;
@@ -0,0 +1,58 @@
+-- V11: Statement-level roster size maintenance
+-- The V1 trigger ran one UPDATE teams per player row, so a 20-player import issued 20 updates
+-- to the same team row. These triggers read the statement's transition tables and apply one
+-- net adjustment per affected team, however many players the statement touched.
+--
+-- Transition tables cannot be combined with a column list, so the UPDATE trigger fires for
+-- every players update and only acts on rows whose team_id changed.
+
+DROP TRIGGER IF EXISTS trigger_update_roster_size ON players;
+DROP FUNCTION IF EXISTS update_team_roster_size();
+
+CREATE OR REPLACE FUNCTION adjust_team_roster_size()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE teams t SET roster_size = GREATEST(t.roster_size + d.delta, 0)
+        FROM (SELECT team_id, COUNT(*) AS delta FROM new_players GROUP BY team_id) d
+        WHERE t.id = d.team_id;
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE teams t SET roster_size = GREATEST(t.roster_size - d.delta, 0)
+        FROM (SELECT team_id, COUNT(*) AS delta FROM old_players GROUP BY team_id) d
+        WHERE t.id = d.team_id;
+    ELSIF TG_OP = 'UPDATE' THEN
+        UPDATE teams t SET roster_size = GREATEST(t.roster_size + d.delta, 0)
+        FROM (
+            SELECT team_id, SUM(delta) AS delta FROM (
+                SELECT n.team_id, 1 AS delta FROM new_players n JOIN old_players o ON o.id = n.id
+                WHERE n.team_id <> o.team_id
+                UNION ALL
+                SELECT o.team_id, -1 AS delta FROM new_players n JOIN old_players o ON o.id = n.id
+                WHERE n.team_id <> o.team_id
+            ) moves
+            GROUP BY team_id
+        ) d
+        WHERE t.id = d.team_id AND d.delta <> 0;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_roster_size_insert
+AFTER INSERT ON players
+REFERENCING NEW TABLE AS new_players
+FOR EACH STATEMENT EXECUTE FUNCTION adjust_team_roster_size();
+
+CREATE TRIGGER trigger_roster_size_delete
+AFTER DELETE ON players
+REFERENCING OLD TABLE AS old_players
+FOR EACH STATEMENT EXECUTE FUNCTION adjust_team_roster_size();
+
+CREATE TRIGGER trigger_roster_size_update
+AFTER UPDATE ON players
+REFERENCING OLD TABLE AS old_players NEW TABLE AS new_players
+FOR EACH STATEMENT EXECUTE FUNCTION adjust_team_roster_size();
+
+-- Resync in case the per-row trigger and actual rosters ever drifted
+UPDATE teams t SET roster_size = (SELECT COUNT(*) FROM players p WHERE p.team_id = t.id)
+WHERE roster_size IS DISTINCT FROM (SELECT COUNT(*) FROM players p WHERE p.team_id = t.id);
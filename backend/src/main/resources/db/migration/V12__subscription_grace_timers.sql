@@ -0,0 +1,15 @@
+-- V12: Subscription grace period timers
+-- A failed renewal puts the team into a grace period instead of making it ineligible at once.
+-- Each team in grace has one row here holding the instant its grace expires; the application
+-- keeps the pending rows in an in-memory timing wheel and suspends eligibility when they come
+-- due, so nothing has to scan teams by subscription_status. Deleting the row (payment
+-- succeeded) cancels the timer; claiming due rows with SKIP LOCKED keeps expiry exactly-once
+-- across instances.
+
+CREATE TABLE subscription_grace_timers (
+    team_id UUID PRIMARY KEY REFERENCES teams(id) ON DELETE CASCADE,
+    due_at timestamptz NOT NULL,
+    created_at timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_subscription_grace_timers_due ON subscription_grace_timers(due_at);
@@ -0,0 +1,14 @@
+-- V13: Release expired seat holds without deleting the team
+-- The V5 sweeper deleted unpaid teams whose hold had expired, so a checkout completing after
+-- that point charged the customer for a row that no longer existed. The sweeper now only gives
+-- the seat back: seat_expires_at is cleared and seat_released_at records when. Starting a new
+-- checkout re-claims a seat, and a payment on a released registration takes one unconditionally.
+-- Released registrations are purged once no checkout session created for them can still be open.
+
+ALTER TABLE teams
+    ADD COLUMN seat_released_at timestamptz;
+
+CREATE INDEX idx_teams_seat_released ON teams(seat_released_at)
+    WHERE seat_released_at IS NOT NULL;
+
+COMMENT ON COLUMN teams.seat_released_at IS 'When the sweeper gave back the seat of an unpaid registration whose hold expired';
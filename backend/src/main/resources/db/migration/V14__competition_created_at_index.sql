@@ -0,0 +1,4 @@
+-- V14: Let the share token filter refresh read recently created competitions by range
+-- Every instance polls for competitions created since its last refresh every few seconds.
+
+CREATE INDEX IF NOT EXISTS idx_competitions_created_at ON competitions(created_at);
@@ -0,0 +1,71 @@
+-- V15: Default scoring in standings
+-- ScoringRules.fromPolicy falls back to 3/1/0 when a policy has no scoring keys, but the live view
+-- (and the V9 backfill copied from it) scored those competitions as 0. Result deltas were then
+-- added to that base, and rebuilds and consistency checks compared against it.
+
+CREATE OR REPLACE VIEW standings_live AS
+WITH match_results AS (
+    SELECT
+        m.competition_id,
+        m.home_team_id AS team_id,
+        CASE
+            WHEN m.home_score > m.away_score THEN 'W'
+            WHEN m.home_score < m.away_score THEN 'L'
+            ELSE 'D'
+        END AS result,
+        m.home_score AS goals_for,
+        m.away_score AS goals_against
+    FROM matches m
+    WHERE m.status = 'COMPLETED'
+
+    UNION ALL
+
+    SELECT
+        m.competition_id,
+        m.away_team_id AS team_id,
+        CASE
+            WHEN m.away_score > m.home_score THEN 'W'
+            WHEN m.away_score < m.home_score THEN 'L'
+            ELSE 'D'
+        END AS result,
+        m.away_score AS goals_for,
+        m.home_score AS goals_against
+    FROM matches m
+    WHERE m.status = 'COMPLETED'
+)
+SELECT
+    t.id AS team_id,
+    t.name AS team_name,
+    t.competition_id,
+    c.policy,
+    COUNT(mr.result) AS played,
+    SUM(CASE WHEN mr.result = 'W' THEN 1 ELSE 0 END) AS won,
+    SUM(CASE WHEN mr.result = 'D' THEN 1 ELSE 0 END) AS drawn,
+    SUM(CASE WHEN mr.result = 'L' THEN 1 ELSE 0 END) AS lost,
+    COALESCE(SUM(mr.goals_for), 0) AS goals_for,
+    COALESCE(SUM(mr.goals_against), 0) AS goals_against,
+    COALESCE(SUM(mr.goals_for - mr.goals_against), 0) AS goal_difference,
+    COALESCE(
+        SUM(CASE
+            WHEN mr.result = 'W' THEN COALESCE((c.policy->'scoring'->>'win')::int, 3)
+            WHEN mr.result = 'D' THEN COALESCE((c.policy->'scoring'->>'draw')::int, 1)
+            ELSE COALESCE((c.policy->'scoring'->>'loss')::int, 0)
+        END),
+        0
+    ) AS points
+FROM teams t
+JOIN competitions c ON t.competition_id = c.id
+LEFT JOIN match_results mr ON mr.team_id = t.id AND mr.competition_id = c.id
+GROUP BY t.id, t.name, t.competition_id, c.policy;
+
+-- Win/draw/loss counts were always right, so points can be recomputed from them in place
+UPDATE standings s
+SET points = s.won * COALESCE((c.policy->'scoring'->>'win')::int, 3)
+           + s.drawn * COALESCE((c.policy->'scoring'->>'draw')::int, 1)
+           + s.lost * COALESCE((c.policy->'scoring'->>'loss')::int, 0),
+    updated_at = now()
+FROM competitions c
+WHERE c.id = s.competition_id
+  AND (c.policy->'scoring'->>'win' IS NULL
+       OR c.policy->'scoring'->>'draw' IS NULL
+       OR c.policy->'scoring'->>'loss' IS NULL);
@@ -0,0 +1,6 @@
+-- V16: Record the checkout session on the registration
+-- Checkout sessions are now created outside the transaction that holds the seat, so the session
+-- id is written afterwards in a separate short update.
+
+ALTER TABLE teams
+    ADD COLUMN stripe_checkout_session_id VARCHAR(255);
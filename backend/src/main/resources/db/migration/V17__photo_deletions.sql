@@ -0,0 +1,10 @@
+-- V17: Photo deletion counter
+-- Photo uploads now write their variants to storage before the transaction that points the player
+-- at them, so a cleanup of the same content-addressed keys can land in between. Cleanups bump the
+-- hash's counter under the hash lock before deleting; an upload that finds the counter moved since
+-- it started writing stores the variants again before committing.
+
+CREATE TABLE photo_deletions (
+    photo_hash VARCHAR(64) PRIMARY KEY,
+    deletion_count BIGINT NOT NULL
+);
@@ -0,0 +1,10 @@
+-- V4: Support keyset pagination of the published competitions feed
+
+-- Older published rows may predate published_at being set; the feed orders on it
+UPDATE competitions
+SET published_at = updated_at
+WHERE status = 'PUBLISHED' AND published_at IS NULL;
+
+-- Status equality plus (published_at, id) ordering lets each page be a single index range scan
+CREATE INDEX IF NOT EXISTS idx_competitions_published_feed
+    ON competitions (status, published_at DESC, id DESC);
@@ -0,0 +1,26 @@
+-- V5: Atomic seat reservation for team registration
+-- One counter row per competition; registration claims a seat with a conditional
+-- UPDATE instead of count-then-insert, so concurrent sign-ups cannot oversubscribe.
+
+CREATE TABLE competition_capacity (
+    competition_id UUID PRIMARY KEY REFERENCES competitions(id) ON DELETE CASCADE,
+    max_teams INTEGER NOT NULL,
+    reserved_seats INTEGER NOT NULL DEFAULT 0 CHECK (reserved_seats >= 0),
+    updated_at timestamptz NOT NULL DEFAULT now()
+);
+
+-- Unpaid registrations hold their seat until this time; NULL once paid
+ALTER TABLE teams
+    ADD COLUMN seat_expires_at timestamptz;
+
+CREATE INDEX idx_teams_seat_expiry ON teams(seat_expires_at)
+    WHERE seat_expires_at IS NOT NULL;
+
+-- Existing paid teams already occupy seats; legacy unpaid rows are not counted
+INSERT INTO competition_capacity (competition_id, max_teams, reserved_seats)
+SELECT c.id,
+       c.max_teams,
+       (SELECT COUNT(*) FROM teams t WHERE t.competition_id = c.id AND t.entry_fee_paid = TRUE)
+FROM competitions c;
+
+COMMENT ON COLUMN teams.seat_expires_at IS 'End of the seat hold for an unpaid registration; released by the reservation sweeper';
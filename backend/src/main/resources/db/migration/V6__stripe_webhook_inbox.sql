@@ -0,0 +1,27 @@
+-- V6: Durable inbox for Stripe webhooks
+-- The webhook endpoint only verifies and stores events; a worker pool drains this table
+-- with retries and exponential backoff, parking events that keep failing as DEAD.
+
+CREATE TABLE stripe_webhook_events (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    stripe_event_id VARCHAR(255) NOT NULL UNIQUE,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'PROCESSING', 'PROCESSED', 'RETRY', 'DEAD')),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at timestamptz NOT NULL DEFAULT now(),
+    locked_until timestamptz,
+    last_error TEXT,
+    received_at timestamptz NOT NULL DEFAULT now(),
+    processed_at timestamptz
+);
+
+-- Work queue scans only touch rows that can still be picked up
+CREATE INDEX idx_stripe_webhook_events_due ON stripe_webhook_events(next_attempt_at)
+    WHERE status IN ('PENDING', 'RETRY');
+
+CREATE INDEX idx_stripe_webhook_events_lease ON stripe_webhook_events(locked_until)
+    WHERE status = 'PROCESSING';
+
+CREATE INDEX idx_stripe_webhook_events_dead ON stripe_webhook_events(received_at)
+    WHERE status = 'DEAD';
@@ -0,0 +1,7 @@
+-- V7: Record which Stripe event produced each subscription event
+-- Webhook handlers check stripe_event_id before doing any work; the unique index
+-- makes a concurrent duplicate roll back instead of writing a second ledger entry.
+
+CREATE UNIQUE INDEX uq_subscription_events_stripe_event
+    ON subscription_events(stripe_event_id)
+    WHERE stripe_event_id IS NOT NULL;
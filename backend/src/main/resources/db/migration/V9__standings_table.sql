@@ -0,0 +1,44 @@
+-- V9: Materialized standings
+-- The V1 view recomputes every completed match on each read. It is kept as standings_live
+-- (the reference used by rebuild and consistency checks) and standings becomes a table that
+-- MatchService keeps current by applying per-result deltas to the two affected team rows.
+
+ALTER VIEW standings RENAME TO standings_live;
+
+CREATE TABLE standings (
+    competition_id UUID NOT NULL REFERENCES competitions(id) ON DELETE CASCADE,
+    team_id UUID NOT NULL REFERENCES teams(id) ON DELETE CASCADE,
+    played INTEGER NOT NULL DEFAULT 0,
+    won INTEGER NOT NULL DEFAULT 0,
+    drawn INTEGER NOT NULL DEFAULT 0,
+    lost INTEGER NOT NULL DEFAULT 0,
+    goals_for INTEGER NOT NULL DEFAULT 0,
+    goals_against INTEGER NOT NULL DEFAULT 0,
+    goal_difference INTEGER GENERATED ALWAYS AS (goals_for - goals_against) STORED,
+    points INTEGER NOT NULL DEFAULT 0,
+    updated_at timestamptz NOT NULL DEFAULT now(),
+    PRIMARY KEY (competition_id, team_id)
+);
+
+-- Table order for a competition is one range scan of this index
+CREATE INDEX idx_standings_table_order
+    ON standings(competition_id, points DESC, goal_difference DESC, goals_for DESC);
+
+-- Every team has a row from registration on, so deltas never need to create one
+CREATE OR REPLACE FUNCTION insert_team_standing()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO standings (competition_id, team_id)
+    VALUES (NEW.competition_id, NEW.id)
+    ON CONFLICT DO NOTHING;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_insert_team_standing
+AFTER INSERT ON teams
+FOR EACH ROW EXECUTE FUNCTION insert_team_standing();
+
+INSERT INTO standings (competition_id, team_id, played, won, drawn, lost, goals_for, goals_against, points)
+SELECT competition_id, team_id, played, won, drawn, lost, goals_for, goals_against, points
+FROM standings_live;
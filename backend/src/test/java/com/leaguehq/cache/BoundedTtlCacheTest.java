@@ -0,0 +1,86 @@
+package com.leaguehq.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTtlCacheTest {
+
+    @Test
+    void overflowTrimsTheLeastRecentlyUsedEntries() throws Exception {
+        BoundedTtlCache<Integer, String> cache = new BoundedTtlCache<>("test", 100, Duration.ofHours(1));
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "v" + i);
+        }
+        // Touch the older half after the access stamps have moved on
+        Thread.sleep(5);
+        for (int i = 0; i < 50; i++) {
+            assertThat(cache.getIfPresent(i)).isEqualTo("v" + i);
+        }
+
+        cache.put(100, "v100");
+
+        assertThat(cache.size()).isEqualTo(90);
+        assertThat(cache.stats().evictions()).isEqualTo(11);
+        for (int i = 0; i < 50; i++) {
+            assertThat(cache.getIfPresent(i)).isEqualTo("v" + i);
+        }
+        assertThat(cache.getIfPresent(100)).isEqualTo("v100");
+    }
+
+    @Test
+    void overflowDropsExpiredEntriesBeforeLiveOnes() throws Exception {
+        BoundedTtlCache<Integer, String> cache = new BoundedTtlCache<>("test", 10, Duration.ofHours(1));
+        for (int i = 0; i < 10; i++) {
+            cache.putUntil(i, "v" + i, System.currentTimeMillis() + (i < 5 ? 1 : 60_000));
+        }
+        Thread.sleep(5);
+
+        cache.put(10, "v10");
+
+        assertThat(cache.size()).isEqualTo(6);
+        assertThat(cache.stats().expirations()).isEqualTo(5);
+        assertThat(cache.stats().evictions()).isZero();
+    }
+
+    @Test
+    void concurrentReadsAndWritesStayWithinTheBound() throws Exception {
+        int maxSize = 1_000;
+        BoundedTtlCache<Integer, Integer> cache = new BoundedTtlCache<>("test", maxSize, Duration.ofHours(1));
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                workers.add(pool.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 50_000; i++) {
+                        int key = random.nextInt(5_000);
+                        Integer value = cache.getIfPresent(key);
+                        if (value == null) {
+                            cache.put(key, key);
+                        } else {
+                            assertThat(value).isEqualTo(key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(maxSize);
+        CacheStats stats = cache.stats();
+        assertThat(stats.hits() + stats.misses()).isEqualTo(8 * 50_000);
+    }
+}
@@ -0,0 +1,118 @@
+package com.leaguehq.security;
+
+import com.leaguehq.cache.BoundedTtlCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Per-request JWT verification cost. "before" is the filter's former path: validateToken then
+// getUserIdFromToken, each deriving the key, building a parser and verifying the signature.
+// "after" is parseValidToken, on a cache miss (one verification with the prebuilt parser) and on
+// a hit. Runs on 8 threads so the claims cache is measured under contention.
+// Run with: mvn test-compile, then main() from the IDE.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    private String token;
+    private JwtTokenProvider cachedProvider;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = Jwts.builder()
+                .subject(UUID.randomUUID().toString())
+                .claim(JwtTokenProvider.CLAIM_ROLE, "COACH")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()))
+                .signWith(key)
+                .compact();
+
+        cachedProvider = provider();
+        cachedProvider.parseValidToken(token);
+    }
+
+    @Benchmark
+    public UUID beforeDoubleParse() {
+        if (parseWithFreshParser(token) == null) {
+            return null;
+        }
+        return UUID.fromString(parseWithFreshParser(token).getSubject());
+    }
+
+    @Benchmark
+    public UUID afterCacheMiss(ColdProvider cold) {
+        return UUID.fromString(cold.provider.parseValidToken(token).getSubject());
+    }
+
+    @Benchmark
+    public UUID afterCacheHit() {
+        return UUID.fromString(cachedProvider.parseValidToken(token).getSubject());
+    }
+
+    // The cache is emptied before every call, so each one verifies the signature
+    @State(Scope.Thread)
+    public static class ColdProvider {
+        JwtTokenProvider provider = provider();
+
+        @Setup(Level.Invocation)
+        public void emptyCache() {
+            provider = provider();
+        }
+    }
+
+    private static Claims parseWithFreshParser(String token) {
+        try {
+            SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+            return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static JwtTokenProvider provider() {
+        JwtTokenProvider provider = new JwtTokenProvider(
+                new BoundedTtlCache<>("verified-tokens", 10_000, Duration.ofMinutes(15)));
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", Duration.ofMinutes(15).toMillis());
+        provider.init();
+        return provider;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,97 @@
+package com.leaguehq.security;
+
+import com.leaguehq.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A login storm against a small request pool standing in for Tomcat's. Auth requests hand the
+// bcrypt work to PasswordHashingExecutor and return, as the CompletableFuture endpoints do, so
+// other requests on the same pool keep their latency while the storm is hashing or being shed.
+class PasswordHashingLoginStormTest {
+
+    private static final int REQUEST_THREADS = 8;
+    private static final int STORM_LOGINS = 400;
+    private static final int PROBES = 200;
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(10);
+    private final String storedHash = encoder.encode("correct horse battery staple");
+
+    private ExecutorService requestPool;
+    private PasswordHashingExecutor hashingExecutor;
+
+    @BeforeEach
+    void setUp() {
+        requestPool = Executors.newFixedThreadPool(REQUEST_THREADS);
+        hashingExecutor = new PasswordHashingExecutor(2, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        requestPool.shutdownNow();
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    void otherEndpointsStayResponsiveDuringLoginStorm() throws Exception {
+        long baselineP95 = probeP95();
+
+        List<CompletableFuture<Boolean>> logins = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> stormRequests = new ArrayList<>();
+        for (int i = 0; i < STORM_LOGINS; i++) {
+            stormRequests.add(requestPool.submit(() -> logins.add(
+                    hashingExecutor.supplyAsync(() -> encoder.matches("correct horse battery staple", storedHash)))));
+        }
+
+        long stormP95 = probeP95();
+
+        for (Future<?> request : stormRequests) {
+            request.get(10, TimeUnit.SECONDS);
+        }
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger throttled = new AtomicInteger();
+        for (CompletableFuture<Boolean> login : logins) {
+            try {
+                assertThat(login.join()).isTrue();
+                succeeded.incrementAndGet();
+            } catch (CompletionException e) {
+                assertThat(e.getCause()).isInstanceOf(TooManyRequestsException.class);
+                throttled.incrementAndGet();
+            }
+        }
+
+        // Request threads never waited on bcrypt: cheap requests see roughly the idle latency
+        assertThat(stormP95).isLessThan(baselineP95 + TimeUnit.MILLISECONDS.toNanos(50));
+        // The bounded queue shed the excess rather than queueing the whole storm
+        assertThat(succeeded.get()).isPositive();
+        assertThat(throttled.get()).isPositive();
+        assertThat(succeeded.get() + throttled.get()).isEqualTo(STORM_LOGINS);
+    }
+
+    // Latency of a request that does no hashing, from submission to completion on the request pool
+    private long probeP95() throws Exception {
+        List<Long> latencies = new ArrayList<>(PROBES);
+        for (int i = 0; i < PROBES; i++) {
+            long submitted = System.nanoTime();
+            Future<Long> probe = requestPool.submit(() -> System.nanoTime() - submitted);
+            latencies.add(probe.get(5, TimeUnit.SECONDS));
+            Thread.sleep(1);
+        }
+        Collections.sort(latencies);
+        return latencies.get((int) (PROBES * 0.95) - 1);
+    }
+}
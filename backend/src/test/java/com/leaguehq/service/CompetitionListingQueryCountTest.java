@@ -0,0 +1,159 @@
+package com.leaguehq.service;
+
+import com.leaguehq.cache.BoundedTtlCache;
+import com.leaguehq.dto.request.PublishedCompetitionsRequest;
+import com.leaguehq.dto.response.CompetitionPageResponse;
+import com.leaguehq.dto.response.CompetitionResponse;
+import com.leaguehq.model.Competition;
+import com.leaguehq.model.Team;
+import com.leaguehq.model.User;
+import com.leaguehq.model.Venue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Listing pages are assembled from a fixed set of statements: the competitions with their owner,
+// one IN query for venues and one grouped count of paid teams. Counted as prepared SQL statements,
+// so a lazy load creeping into CompetitionResponse.fromEntity shows up as a failure.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(CompetitionService.class)
+class CompetitionListingQueryCountTest {
+
+    private static final int PAID_TEAMS = 3;
+
+    @Autowired
+    private CompetitionService competitionService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private TeamService teamService;
+
+    @MockBean
+    private BoundedTtlCache<UUID, VersionedResponse<CompetitionResponse>> competitionDetailCache;
+
+    @MockBean
+    private ShareTokenResolver shareTokenResolver;
+
+    @MockBean
+    private SeatReservationService seatReservationService;
+
+    @MockBean
+    private RosterLockScheduler rosterLockScheduler;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 500})
+    void ownerDashboardUsesThreeStatements(int rows) {
+        User owner = seed(rows);
+
+        statistics.clear();
+        List<CompetitionResponse> responses = competitionService.findByOwner(owner.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(responses).hasSize(rows);
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.getOwnerName()).isEqualTo(owner.getFullName());
+            assertThat(response.getVenues()).hasSize(1);
+            assertThat(response.getCurrentTeamCount()).isEqualTo(PAID_TEAMS);
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 500})
+    void publishedFeedUsesThreeStatements(int rows) {
+        seed(rows);
+
+        PublishedCompetitionsRequest request = new PublishedCompetitionsRequest();
+        request.setLimit(100);
+        statistics.clear();
+        CompetitionPageResponse page = competitionService.findPublishedCompetitions(request);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(page.getItems()).hasSize(Math.min(rows, 100));
+        assertThat(page.getItems()).allSatisfy(response -> {
+            assertThat(response.getVenues()).hasSize(1);
+            assertThat(response.getCurrentTeamCount()).isEqualTo(PAID_TEAMS);
+        });
+    }
+
+    // Each competition gets a venue, PAID_TEAMS paid teams and one unpaid team. The persistence
+    // context is cleared afterwards so nothing is served from it.
+    private User seed(int rows) {
+        User owner = user("owner", User.UserRole.COMPETITION_OWNER);
+        User coach = user("coach", User.UserRole.COACH);
+
+        Instant publishedAt = Instant.now();
+        for (int i = 0; i < rows; i++) {
+            Competition competition = Competition.builder()
+                    .owner(owner)
+                    .name("Competition " + i)
+                    .format(Competition.CompetitionFormat.LEAGUE)
+                    .teamSize(Competition.TeamSize.FIVE_V_FIVE)
+                    .entryFee(BigDecimal.TEN)
+                    .policy(Map.of("tiebreakers", List.of("goal_diff")))
+                    .maxTeams(16)
+                    .startDate(LocalDate.now())
+                    .endDate(LocalDate.now().plusMonths(2))
+                    .status(Competition.CompetitionStatus.PUBLISHED)
+                    .publishedAt(publishedAt.minusSeconds(i))
+                    .build();
+            entityManager.persist(competition);
+            entityManager.persist(Venue.builder().competition(competition).name("Pitch " + i).build());
+            for (int t = 0; t <= PAID_TEAMS; t++) {
+                entityManager.persist(Team.builder()
+                        .competition(competition)
+                        .coach(coach)
+                        .name("Team " + t)
+                        .entryFeePaid(t < PAID_TEAMS)
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return owner;
+    }
+
+    private User user(String name, User.UserRole role) {
+        User user = User.builder()
+                .email(name + "-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("{noop}unused")
+                .fullName(name)
+                .role(role)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
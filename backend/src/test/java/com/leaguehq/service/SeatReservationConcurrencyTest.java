@@ -0,0 +1,102 @@
+package com.leaguehq.service;
+
+import com.leaguehq.exception.BadRequestException;
+import com.leaguehq.model.Competition;
+import com.leaguehq.model.CompetitionCapacity;
+import com.leaguehq.repository.CompetitionCapacityRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Many registrations racing for the last seats: the conditional UPDATE must hand out exactly
+// max_teams seats however the transactions interleave.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(SeatReservationService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeatReservationConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 25;
+    private static final int MAX_TEAMS = 40;
+
+    @Autowired
+    private SeatReservationService seatReservationService;
+
+    @Autowired
+    private CompetitionCapacityRepository capacityRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentRegistrationsNeverOverbook() throws Exception {
+        Competition competition = Competition.builder()
+                .id(UUID.randomUUID())
+                .maxTeams(MAX_TEAMS)
+                .build();
+        capacityRepository.save(CompetitionCapacity.builder()
+                .competitionId(competition.getId())
+                .maxTeams(MAX_TEAMS)
+                .reservedSeats(0)
+                .updatedAt(Instant.now())
+                .build());
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        AtomicInteger granted = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        try {
+                            tx.executeWithoutResult(status -> seatReservationService.reserveSeat(competition));
+                            granted.incrementAndGet();
+                        } catch (BadRequestException e) {
+                            refused.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        CompetitionCapacity capacity = capacityRepository.findById(competition.getId()).orElseThrow();
+        assertThat(granted.get()).isEqualTo(MAX_TEAMS);
+        assertThat(refused.get()).isEqualTo(THREADS * ATTEMPTS_PER_THREAD - MAX_TEAMS);
+        assertThat(capacity.getReservedSeats()).isEqualTo(MAX_TEAMS);
+    }
+}
@@ -0,0 +1,111 @@
+package com.leaguehq.service;
+
+import com.leaguehq.exception.BadRequestException;
+import com.leaguehq.model.Competition;
+import com.leaguehq.model.Team;
+import com.leaguehq.repository.CompetitionCapacityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SeatReservationServiceTest {
+
+    @Mock
+    private CompetitionCapacityRepository capacityRepository;
+
+    @InjectMocks
+    private SeatReservationService seatReservationService;
+
+    private Competition competition;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(seatReservationService, "seatHoldMinutes", 40L);
+        competition = Competition.builder().id(UUID.randomUUID()).maxTeams(8).build();
+    }
+
+    @Test
+    void checkoutLateInTheHoldExtendsItPastTheSession() {
+        Team team = team(Instant.now().plus(Duration.ofMinutes(10)));
+
+        Instant sessionExpiresAt = seatReservationService.holdForCheckout(team);
+
+        assertThat(sessionExpiresAt).isAfter(Instant.now().plus(Duration.ofMinutes(30)));
+        assertThat(team.getSeatExpiresAt()).isAfterOrEqualTo(
+                sessionExpiresAt.plus(SeatReservationService.CHECKOUT_HOLD_MARGIN));
+        verify(capacityRepository, never()).tryReserveSeat(any());
+    }
+
+    @Test
+    void checkoutEarlyInTheHoldKeepsItAndExpiresSessionFirst() {
+        Instant holdEnd = Instant.now().plus(Duration.ofHours(2));
+        Team team = team(holdEnd);
+
+        Instant sessionExpiresAt = seatReservationService.holdForCheckout(team);
+
+        assertThat(team.getSeatExpiresAt()).isEqualTo(holdEnd);
+        assertThat(sessionExpiresAt).isEqualTo(holdEnd.minus(SeatReservationService.CHECKOUT_HOLD_MARGIN));
+    }
+
+    @Test
+    void checkoutAfterReleaseClaimsTheSeatAgain() {
+        Team team = team(null);
+        team.setSeatReleasedAt(Instant.now().minus(Duration.ofMinutes(3)));
+        when(capacityRepository.tryReserveSeat(competition.getId())).thenReturn(1);
+
+        Instant sessionExpiresAt = seatReservationService.holdForCheckout(team);
+
+        assertThat(team.getSeatReleasedAt()).isNull();
+        assertThat(team.getSeatExpiresAt()).isAfterOrEqualTo(
+                sessionExpiresAt.plus(SeatReservationService.CHECKOUT_HOLD_MARGIN));
+    }
+
+    @Test
+    void checkoutAfterReleaseIsRefusedWhenCompetitionFilledUp() {
+        Team team = team(null);
+        team.setSeatReleasedAt(Instant.now().minus(Duration.ofMinutes(3)));
+        when(capacityRepository.tryReserveSeat(competition.getId())).thenReturn(0);
+        when(capacityRepository.existsById(competition.getId())).thenReturn(true);
+
+        assertThatThrownBy(() -> seatReservationService.holdForCheckout(team))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Competition is full");
+        assertThat(team.getSeatExpiresAt()).isNull();
+    }
+
+    @Test
+    void paymentAfterReleaseTakesASeatUnconditionally() {
+        Team team = team(null);
+        team.setSeatReleasedAt(Instant.now().minus(Duration.ofMinutes(3)));
+
+        seatReservationService.confirmSeat(team);
+
+        verify(capacityRepository).forceReserveSeat(competition.getId());
+        assertThat(team.getSeatReleasedAt()).isNull();
+    }
+
+    private Team team(Instant seatExpiresAt) {
+        return Team.builder()
+                .id(UUID.randomUUID())
+                .competition(competition)
+                .entryFeePaid(false)
+                .seatExpiresAt(seatExpiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.leaguehq.service;
+
+import com.leaguehq.cache.BoundedTtlCache;
+import com.leaguehq.repository.CompetitionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// Scanner traffic against the share endpoint's resolver: random well-formed tokens from many
+// threads, mixed with real links. Counts how many lookups reach the repository.
+class ShareTokenResolverLoadTest {
+
+    private static final int ISSUED_TOKENS = 2_000;
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 20_000;
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    private final Map<String, UUID> database = new ConcurrentHashMap<>();
+    private final List<String> createdLater = new ArrayList<>();
+    private final AtomicInteger databaseLookups = new AtomicInteger();
+
+    private ShareTokenResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < ISSUED_TOKENS; i++) {
+            database.put(randomToken(random), UUID.randomUUID());
+        }
+
+        CompetitionRepository repository = mock(CompetitionRepository.class, withSettings().stubOnly());
+        when(repository.findAllShareTokens()).thenAnswer(invocation -> new ArrayList<>(database.keySet()));
+        when(repository.findShareTokensCreatedAfter(any())).thenAnswer(invocation -> new ArrayList<>(createdLater));
+        when(repository.findIdByShareToken(anyString())).thenAnswer(invocation -> {
+            databaseLookups.incrementAndGet();
+            return Optional.ofNullable(database.get(invocation.<String>getArgument(0)));
+        });
+
+        resolver = new ShareTokenResolver(repository,
+                new BoundedTtlCache<>("share-token", 50_000, Duration.ofHours(1)),
+                new BoundedTtlCache<>("share-token-negative", 100_000, Duration.ofMinutes(5)),
+                100_000);
+        resolver.warmUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void scannerTrafficIsAnsweredFromMemory() throws Exception {
+        List<String> issued = new ArrayList<>(database.keySet());
+        AtomicInteger scannerRequests = new AtomicInteger();
+        AtomicInteger wrongAnswers = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    start.await();
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        // Nine in ten requests are scanner probes, the rest open real links
+                        if (random.nextInt(10) > 0) {
+                            scannerRequests.incrementAndGet();
+                            if (resolver.resolve(randomToken(random)).isPresent()) {
+                                wrongAnswers.incrementAndGet();
+                            }
+                        } else {
+                            String token = issued.get(random.nextInt(issued.size()));
+                            if (!resolver.resolve(token).equals(Optional.of(database.get(token)))) {
+                                wrongAnswers.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(120, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int totalRequests = THREADS * REQUESTS_PER_THREAD;
+        assertThat(wrongAnswers.get()).isZero();
+        // Real links load once each (give or take concurrent first misses); probes only reach the
+        // database on a bloom false positive
+        assertThat(databaseLookups.get())
+                .isLessThan(ISSUED_TOKENS * 2 + scannerRequests.get() / 100)
+                .isLessThan(totalRequests / 20);
+    }
+
+    @Test
+    void tokensIssuedOnAnotherInstanceResolveAfterRefresh() {
+        String token = randomToken(ThreadLocalRandom.current());
+        UUID competitionId = UUID.randomUUID();
+        database.put(token, competitionId);
+        createdLater.add(token);
+
+        resolver.refresh();
+
+        assertThat(resolver.resolve(token)).contains(competitionId);
+    }
+
+    @Test
+    void registeredTokensAreCachedOnlyAfterCommit() {
+        String token = randomToken(ThreadLocalRandom.current());
+        UUID competitionId = UUID.randomUUID();
+
+        TransactionSynchronizationManager.initSynchronization();
+        resolver.registerAfterCommit(token, competitionId);
+        assertThat(resolver.resolve(token)).isEmpty();
+
+        database.put(token, competitionId);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        int lookupsBefore = databaseLookups.get();
+        assertThat(resolver.resolve(token)).contains(competitionId);
+        assertThat(databaseLookups.get()).isEqualTo(lookupsBefore);
+    }
+
+    private static String randomToken(Random random) {
+        StringBuilder token = new StringBuilder(22);
+        for (int i = 0; i < 22; i++) {
+            token.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return token.toString();
+    }
+}
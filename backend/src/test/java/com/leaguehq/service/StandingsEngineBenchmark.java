@@ -0,0 +1,84 @@
+package com.leaguehq.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Ranking cost for a 50-team, 1,000-match competition. "low" scores produce many tied groups, so
+// head-to-head mini-leagues dominate; "high" scores leave few ties after goal difference.
+// Run with: mvn test-compile, then main() from the IDE (add -prof gc to confirm no allocation).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StandingsEngineBenchmark {
+
+    private static final int TEAMS = 50;
+    private static final int MATCHES = 1_000;
+
+    @Param({"low", "high"})
+    public String scoring;
+
+    private int[] homeTeam;
+    private int[] awayTeam;
+    private int[] homeGoals;
+    private int[] awayGoals;
+    private StandingsEngine engine;
+    private final List<Tiebreaker> tiebreakers = Tiebreaker.DEFAULT;
+
+    @Setup
+    public void setUp() {
+        int maxGoals = "low".equals(scoring) ? 2 : 6;
+        Random random = new Random(42);
+        homeTeam = new int[MATCHES];
+        awayTeam = new int[MATCHES];
+        homeGoals = new int[MATCHES];
+        awayGoals = new int[MATCHES];
+        for (int i = 0; i < MATCHES; i++) {
+            int home = random.nextInt(TEAMS);
+            int away = random.nextInt(TEAMS - 1);
+            homeTeam[i] = home;
+            awayTeam[i] = away >= home ? away + 1 : away;
+            homeGoals[i] = random.nextInt(maxGoals + 1);
+            awayGoals[i] = random.nextInt(maxGoals + 1);
+        }
+        engine = new StandingsEngine(TEAMS, homeTeam, awayTeam, homeGoals, awayGoals, MATCHES);
+    }
+
+    // Repeat rankings on a loaded engine, as when a result changes the table
+    @Benchmark
+    public int[] rank() {
+        return engine.rank(ScoringRules.DEFAULT, tiebreakers);
+    }
+
+    // Includes sizing the engine's arrays, as StandingsService does per request
+    @Benchmark
+    public int[] loadAndRank() {
+        return new StandingsEngine(TEAMS, homeTeam, awayTeam, homeGoals, awayGoals, MATCHES)
+                .rank(ScoringRules.DEFAULT, tiebreakers);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StandingsEngineBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
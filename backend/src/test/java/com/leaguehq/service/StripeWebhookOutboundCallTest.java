@@ -0,0 +1,191 @@
+package com.leaguehq.service;
+
+import com.leaguehq.cache.BoundedTtlCache;
+import com.leaguehq.dto.response.CompetitionResponse;
+import com.leaguehq.model.Competition;
+import com.leaguehq.model.Team;
+import com.leaguehq.model.User;
+import com.leaguehq.repository.PaymentTransactionRepository;
+import com.leaguehq.repository.SubscriptionEventRepository;
+import com.leaguehq.repository.TeamRepository;
+import com.leaguehq.repository.UserRepository;
+import com.leaguehq.security.CustomUserDetailsService;
+import com.stripe.Stripe;
+import com.stripe.model.Event;
+import com.stripe.net.ApiResource;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Webhook handling against a local fake of the Stripe API. Events rendered with the pinned API
+// version must be handled from their payload with no outbound call; only a stale payload may
+// fetch the object, and not when the event has already been applied.
+class StripeWebhookOutboundCallTest {
+
+    private static final String STALE_API_VERSION = "2020-08-27";
+    private static final String SUBSCRIPTION_ID = "sub_fake";
+    private static final String ACCOUNT_ID = "acct_fake";
+
+    private final Map<String, AtomicInteger> requestsByPath = new ConcurrentHashMap<>();
+    private final Map<String, String> objectsByPath = new ConcurrentHashMap<>();
+
+    private HttpServer stripeApi;
+    private SubscriptionEventRepository subscriptionEventRepository;
+    private StripeWebhookProcessor processor;
+    private Team team;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stripeApi = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stripeApi.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            requestsByPath.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+            String body = objectsByPath.get(path);
+            byte[] bytes = (body != null ? body : "{\"error\":{\"type\":\"invalid_request_error\"}}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(body != null ? 200 : 404, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        stripeApi.start();
+        Stripe.apiKey = "sk_test_fake";
+        Stripe.overrideApiBase("http://127.0.0.1:" + stripeApi.getAddress().getPort());
+
+        User coach = User.builder().id(UUID.randomUUID()).fullName("Coach").build();
+        User owner = User.builder().id(UUID.randomUUID()).fullName("Owner").stripeConnectAccountId(ACCOUNT_ID).build();
+        Competition competition = Competition.builder()
+                .id(UUID.randomUUID())
+                .entryFee(BigDecimal.valueOf(50))
+                .maxTeams(8)
+                .build();
+        team = Team.builder()
+                .id(UUID.randomUUID())
+                .competition(competition)
+                .coach(coach)
+                .name("Fake FC")
+                .build();
+
+        TeamRepository teamRepository = mock(TeamRepository.class);
+        when(teamRepository.findByIdForUpdate(team.getId())).thenReturn(Optional.of(team));
+        when(teamRepository.findBySubscriptionIdForUpdate(SUBSCRIPTION_ID)).thenReturn(Optional.of(team));
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByStripeConnectAccountId(ACCOUNT_ID)).thenReturn(Optional.of(owner));
+        when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        subscriptionEventRepository = mock(SubscriptionEventRepository.class);
+
+        @SuppressWarnings("unchecked")
+        BoundedTtlCache<UUID, VersionedResponse<CompetitionResponse>> competitionDetailCache = mock(BoundedTtlCache.class);
+        StripeService stripeService = new StripeService(userRepository, teamRepository,
+                mock(PaymentTransactionRepository.class), subscriptionEventRepository, competitionDetailCache,
+                mock(SeatReservationService.class), mock(SubscriptionGraceService.class),
+                mock(CustomUserDetailsService.class));
+        processor = new StripeWebhookProcessor(stripeService, subscriptionEventRepository,
+                new BoundedTtlCache<>("stripe-events-processed", 1_000, Duration.ofHours(1)));
+
+        objectsByPath.put("/v1/checkout/sessions/cs_fake", checkoutSessionJson());
+        objectsByPath.put("/v1/invoices/in_paid", invoiceJson("in_paid", 30));
+        objectsByPath.put("/v1/invoices/in_failed", invoiceJson("in_failed", 60));
+        objectsByPath.put("/v1/accounts/" + ACCOUNT_ID, accountJson());
+    }
+
+    @AfterEach
+    void tearDown() {
+        Stripe.overrideApiBase(Stripe.LIVE_API_BASE);
+        stripeApi.stop(0);
+    }
+
+    @Test
+    void currentPayloadsAreHandledWithoutCallingStripe() throws Exception {
+        processor.process(event("evt_checkout", "checkout.session.completed", Stripe.API_VERSION, checkoutSessionJson()));
+        assertThat(requestsByPath).isEmpty();
+
+        processor.process(event("evt_paid", "invoice.payment_succeeded", Stripe.API_VERSION, invoiceJson("in_paid", 30)));
+        assertThat(requestsByPath).isEmpty();
+
+        processor.process(event("evt_failed", "invoice.payment_failed", Stripe.API_VERSION, invoiceJson("in_failed", 60)));
+        assertThat(requestsByPath).isEmpty();
+
+        processor.process(event("evt_account", "account.updated", Stripe.API_VERSION, accountJson()));
+        assertThat(requestsByPath).isEmpty();
+
+        assertThat(team.getSubscriptionStatus()).isEqualTo(Team.SubscriptionStatus.PAST_DUE);
+    }
+
+    @Test
+    void stalePayloadsFetchTheObjectOnce() throws Exception {
+        processor.process(event("evt_checkout", "checkout.session.completed", STALE_API_VERSION, checkoutSessionJson()));
+        processor.process(event("evt_paid", "invoice.payment_succeeded", STALE_API_VERSION, invoiceJson("in_paid", 30)));
+        processor.process(event("evt_failed", "invoice.payment_failed", STALE_API_VERSION, invoiceJson("in_failed", 60)));
+        processor.process(event("evt_account", "account.updated", STALE_API_VERSION, accountJson()));
+
+        assertThat(requestsByPath).containsOnlyKeys(
+                "/v1/checkout/sessions/cs_fake", "/v1/invoices/in_paid", "/v1/invoices/in_failed",
+                "/v1/accounts/" + ACCOUNT_ID);
+        assertThat(requestsByPath.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+    }
+
+    @Test
+    void appliedEventsWithStalePayloadsAreDroppedWithoutCallingStripe() throws Exception {
+        // Applied by another instance: this processor's recent-event cache has never seen them
+        when(subscriptionEventRepository.existsByStripeEventId(anyString())).thenReturn(true);
+
+        processor.process(event("evt_checkout", "checkout.session.completed", STALE_API_VERSION, checkoutSessionJson()));
+        processor.process(event("evt_paid", "invoice.payment_succeeded", STALE_API_VERSION, invoiceJson("in_paid", 30)));
+        processor.process(event("evt_failed", "invoice.payment_failed", STALE_API_VERSION, invoiceJson("in_failed", 60)));
+
+        assertThat(requestsByPath).isEmpty();
+        assertThat(team.getSubscriptionStatus()).isNull();
+    }
+
+    private static Event event(String id, String type, String apiVersion, String objectJson) {
+        String json = "{\"id\":\"" + id + "\",\"object\":\"event\",\"api_version\":\"" + apiVersion + "\"," +
+                "\"type\":\"" + type + "\",\"created\":" + Instant.now().getEpochSecond() + "," +
+                "\"data\":{\"object\":" + objectJson + "}}";
+        return ApiResource.GSON.fromJson(json, Event.class);
+    }
+
+    private String checkoutSessionJson() {
+        return "{\"id\":\"cs_fake\",\"object\":\"checkout.session\"," +
+                "\"metadata\":{\"team_id\":\"" + team.getId() + "\"," +
+                "\"competition_id\":\"" + team.getCompetition().getId() + "\"}," +
+                "\"subscription\":\"" + SUBSCRIPTION_ID + "\",\"payment_intent\":\"pi_fake\",\"amount_total\":7000}";
+    }
+
+    private static String invoiceJson(String invoiceId, int periodEndDays) {
+        Instant periodEnd = Instant.now().plus(Duration.ofDays(periodEndDays));
+        return "{\"id\":\"" + invoiceId + "\",\"object\":\"invoice\",\"amount_paid\":2000,\"currency\":\"usd\"," +
+                "\"created\":" + Instant.now().getEpochSecond() + "," +
+                "\"lines\":{\"object\":\"list\",\"data\":[{\"id\":\"il_" + invoiceId + "\",\"object\":\"line_item\"," +
+                "\"subscription\":\"" + SUBSCRIPTION_ID + "\"," +
+                "\"period\":{\"start\":" + periodEnd.minus(Duration.ofDays(30)).getEpochSecond() +
+                ",\"end\":" + periodEnd.getEpochSecond() + "}}]}}";
+    }
+
+    private static String accountJson() {
+        return "{\"id\":\"" + ACCOUNT_ID + "\",\"object\":\"account\",\"charges_enabled\":true," +
+                "\"payouts_enabled\":true,\"details_submitted\":true}";
+    }
+}
@@ -0,0 +1,200 @@
+package com.leaguehq.service;
+
+import com.leaguehq.cache.BoundedTtlCache;
+import com.leaguehq.dto.response.CompetitionResponse;
+import com.leaguehq.model.Competition;
+import com.leaguehq.model.PaymentTransaction;
+import com.leaguehq.model.SubscriptionEvent;
+import com.leaguehq.model.Team;
+import com.leaguehq.model.User;
+import com.leaguehq.repository.PaymentTransactionRepository;
+import com.leaguehq.repository.SubscriptionEventRepository;
+import com.leaguehq.repository.TeamRepository;
+import com.leaguehq.repository.UserRepository;
+import com.leaguehq.security.CustomUserDetailsService;
+import com.stripe.model.Event;
+import com.stripe.model.EventDataObjectDeserializer;
+import com.stripe.model.Invoice;
+import com.stripe.model.InvoiceLineItem;
+import com.stripe.model.InvoiceLineItemCollection;
+import com.stripe.model.StripeObject;
+import com.stripe.model.checkout.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Stripe delivers at least once, and the inbox worker retries on failure. Every event below is
+// fed REPLAYS times; the ledger must look exactly as if each had arrived once. Replays go through
+// the processor (recent-event LRU) and straight to the handlers, as after a restart empties the LRU.
+class StripeWebhookReplayTest {
+
+    private static final int REPLAYS = 5;
+    private static final String SUBSCRIPTION_ID = "sub_replay";
+
+    private final Set<String> storedEventIds = ConcurrentHashMap.newKeySet();
+    private final List<PaymentTransaction> ledger = new ArrayList<>();
+
+    private SeatReservationService seatReservationService;
+    private SubscriptionGraceService subscriptionGraceService;
+    private SubscriptionEventRepository subscriptionEventRepository;
+    private StripeService stripeService;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        User coach = User.builder().id(UUID.randomUUID()).fullName("Coach").build();
+        Competition competition = Competition.builder()
+                .id(UUID.randomUUID())
+                .entryFee(BigDecimal.valueOf(50))
+                .maxTeams(8)
+                .build();
+        team = Team.builder()
+                .id(UUID.randomUUID())
+                .competition(competition)
+                .coach(coach)
+                .name("Replay FC")
+                .build();
+
+        TeamRepository teamRepository = mock(TeamRepository.class);
+        when(teamRepository.findByIdForUpdate(team.getId())).thenReturn(Optional.of(team));
+        when(teamRepository.findBySubscriptionIdForUpdate(SUBSCRIPTION_ID)).thenReturn(Optional.of(team));
+
+        // The unique stripe_event_id index, as the handlers see it through existsByStripeEventId
+        subscriptionEventRepository = mock(SubscriptionEventRepository.class);
+        when(subscriptionEventRepository.existsByStripeEventId(anyString()))
+                .thenAnswer(invocation -> storedEventIds.contains(invocation.<String>getArgument(0)));
+        when(subscriptionEventRepository.save(any(SubscriptionEvent.class))).thenAnswer(invocation -> {
+            SubscriptionEvent event = invocation.getArgument(0);
+            assertThat(storedEventIds.add(event.getStripeEventId())).as("duplicate stripe_event_id").isTrue();
+            return event;
+        });
+
+        PaymentTransactionRepository paymentTransactionRepository = mock(PaymentTransactionRepository.class);
+        when(paymentTransactionRepository.save(any(PaymentTransaction.class))).thenAnswer(invocation -> {
+            ledger.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        seatReservationService = mock(SeatReservationService.class);
+        subscriptionGraceService = mock(SubscriptionGraceService.class);
+        @SuppressWarnings("unchecked")
+        BoundedTtlCache<UUID, VersionedResponse<CompetitionResponse>> competitionDetailCache = mock(BoundedTtlCache.class);
+
+        stripeService = new StripeService(mock(UserRepository.class), teamRepository, paymentTransactionRepository,
+                subscriptionEventRepository, competitionDetailCache, seatReservationService,
+                subscriptionGraceService, mock(CustomUserDetailsService.class));
+    }
+
+    @Test
+    void replayedEventsThroughTheProcessorApplyOnce() throws Exception {
+        List<Event> events = List.of(
+                event("evt_checkout", "checkout.session.completed", checkoutSession()),
+                event("evt_paid", "invoice.payment_succeeded", invoice("in_paid", 30)),
+                event("evt_failed", "invoice.payment_failed", invoice("in_failed", 60)));
+
+        StripeWebhookProcessor processor = processor();
+        for (Event event : events) {
+            for (int i = 0; i < REPLAYS; i++) {
+                processor.process(event);
+            }
+        }
+
+        assertAppliedOnce();
+    }
+
+    @Test
+    void replayedEventsApplyOnceWhenTheRecentEventCacheIsCold() throws Exception {
+        List<Event> events = List.of(
+                event("evt_checkout", "checkout.session.completed", checkoutSession()),
+                event("evt_paid", "invoice.payment_succeeded", invoice("in_paid", 30)),
+                event("evt_failed", "invoice.payment_failed", invoice("in_failed", 60)));
+
+        // Interleaved, and a fresh processor per round: every replay reaches the database check
+        for (int i = 0; i < REPLAYS; i++) {
+            StripeWebhookProcessor processor = processor();
+            for (Event event : events) {
+                processor.process(event);
+            }
+        }
+
+        assertAppliedOnce();
+    }
+
+    private void assertAppliedOnce() {
+        assertThat(storedEventIds).containsExactlyInAnyOrder("evt_checkout", "evt_paid", "evt_failed");
+        // Entry fee and first month from checkout, one renewal from the paid invoice
+        assertThat(ledger).extracting(PaymentTransaction::getTransactionType).containsExactly(
+                PaymentTransaction.TransactionType.ENTRY_FEE,
+                PaymentTransaction.TransactionType.SUBSCRIPTION,
+                PaymentTransaction.TransactionType.SUBSCRIPTION);
+        verify(seatReservationService, times(1)).confirmSeat(team);
+        verify(subscriptionGraceService, times(1)).onPaymentSucceeded(team);
+        verify(subscriptionGraceService, times(1)).onPaymentFailed(eq(team), eq(SUBSCRIPTION_ID), any());
+        assertThat(team.getSubscriptionStatus()).isEqualTo(Team.SubscriptionStatus.PAST_DUE);
+    }
+
+    private StripeWebhookProcessor processor() {
+        return new StripeWebhookProcessor(stripeService, subscriptionEventRepository,
+                new BoundedTtlCache<>("stripe-events-processed", 1_000, Duration.ofHours(1)));
+    }
+
+    private Session checkoutSession() {
+        Session session = mock(Session.class);
+        when(session.getId()).thenReturn("cs_replay");
+        when(session.getMetadata()).thenReturn(Map.of(
+                "team_id", team.getId().toString(),
+                "competition_id", team.getCompetition().getId().toString()));
+        when(session.getSubscription()).thenReturn(SUBSCRIPTION_ID);
+        when(session.getPaymentIntent()).thenReturn("pi_replay");
+        when(session.getAmountTotal()).thenReturn(7000L);
+        return session;
+    }
+
+    private static Invoice invoice(String invoiceId, int periodEndDays) {
+        Instant periodEnd = Instant.now().plus(Duration.ofDays(periodEndDays));
+        InvoiceLineItem line = mock(InvoiceLineItem.class, RETURNS_DEEP_STUBS);
+        when(line.getSubscription()).thenReturn(SUBSCRIPTION_ID);
+        when(line.getPeriod().getStart()).thenReturn(periodEnd.minus(Duration.ofDays(30)).getEpochSecond());
+        when(line.getPeriod().getEnd()).thenReturn(periodEnd.getEpochSecond());
+        InvoiceLineItemCollection lines = mock(InvoiceLineItemCollection.class);
+        when(lines.getData()).thenReturn(List.of(line));
+
+        Invoice invoice = mock(Invoice.class);
+        when(invoice.getId()).thenReturn(invoiceId);
+        when(invoice.getLines()).thenReturn(lines);
+        when(invoice.getAmountPaid()).thenReturn(2000L);
+        when(invoice.getCurrency()).thenReturn("usd");
+        when(invoice.getCreated()).thenReturn(Instant.now().getEpochSecond());
+        return invoice;
+    }
+
+    private static Event event(String id, String type, StripeObject payload) {
+        EventDataObjectDeserializer deserializer = mock(EventDataObjectDeserializer.class);
+        when(deserializer.getObject()).thenReturn(Optional.of(payload));
+        Event event = mock(Event.class);
+        when(event.getId()).thenReturn(id);
+        when(event.getType()).thenReturn(type);
+        when(event.getDataObjectDeserializer()).thenReturn(deserializer);
+        return event;
+    }
+}
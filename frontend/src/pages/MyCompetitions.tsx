@@ -12,6 +12,8 @@ export default function MyCompetitions() {
   const [competitions, setCompetitions] = useState<Competition[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useEffect(() => {
     fetchCompetitions();
@@ -23,8 +25,9 @@ export default function MyCompetitions() {
         const data = await competitionApi.getMyCompetitions();
         setCompetitions(data);
       } else if (user?.role === 'COACH') {
-        const data = await competitionApi.getPublishedCompetitions();
-        setCompetitions(data);
+        const page = await competitionApi.getPublishedCompetitions();
+        setCompetitions(page.items);
+        setNextCursor(page.hasMore ? page.nextCursor : null);
       }
     } catch (err: any) {
       setError(err.response?.data?.message || 'Failed to load competitions');
@@ -33,6 +36,20 @@ export default function MyCompetitions() {
     }
   };
 
+  const loadMore = async () => {
+    if (!nextCursor) return;
+    setLoadingMore(true);
+    try {
+      const page = await competitionApi.getPublishedCompetitions(nextCursor);
+      setCompetitions((current) => [...current, ...page.items]);
+      setNextCursor(page.hasMore ? page.nextCursor : null);
+    } catch (err: any) {
+      setError(err.response?.data?.message || 'Failed to load more competitions');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const formatDate = (dateString: string) => {
     return new Date(dateString).toLocaleDateString('en-US', {
       year: 'numeric',
@@ -144,6 +161,19 @@ export default function MyCompetitions() {
               ))}
             </div>
           )}
+
+          {nextCursor && (
+            <div className="mt-6 text-center">
+              <button
+                type="button"
+                onClick={loadMore}
+                disabled={loadingMore}
+                className="px-4 py-2 border border-gray-300 text-sm font-medium rounded-md text-gray-700 bg-white hover:bg-gray-50 focus:outline-none focus:ring-2 focus:ring-offset-2 focus:ring-indigo-500 disabled:opacity-50 transition-colors"
+              >
+                {loadingMore ? 'Loading...' : 'Load more'}
+              </button>
+            </div>
+          )}
         </div>
       </div>
     </div>
@@ -1,9 +1,10 @@
-import axios, { AxiosError } from 'axios';
+import axios, { AxiosError, InternalAxiosRequestConfig } from 'axios';
 import type {
   AuthResponse,
   LoginRequest,
   SignupRequest,
   Competition,
+  CompetitionPage,
   CreateCompetitionRequest,
   Team,
   ApiError,
@@ -25,13 +26,79 @@ api.interceptors.request.use((config) => {
   return config;
 });
 
+const clearSession = () => {
+  localStorage.removeItem('token');
+  localStorage.removeItem('refreshToken');
+  localStorage.removeItem('user');
+};
+
+// Auth calls whose 401 means bad credentials or a dead session, never an expired access token
+const NO_REFRESH_ENDPOINTS = ['/auth/login', '/auth/signup', '/auth/refresh', '/auth/logout'];
+
+// Tabs share localStorage, so a refresh token rotated in one tab is already spent in the others,
+// and replaying it revokes the whole session. The Web Locks API serializes refreshes across tabs.
+const withRefreshLock = <T>(refresh: () => Promise<T>): Promise<T> => {
+  if (!('locks' in navigator)) {
+    return refresh();
+  }
+  return new Promise<T>((resolve, reject) => {
+    navigator.locks
+      .request('leaguehq-token-refresh', () => refresh().then(resolve, reject))
+      .catch(reject);
+  });
+};
+
+const rotateTokens = async (rejectedToken: string | undefined): Promise<string> => {
+  // Another tab refreshed while this one waited for the lock
+  const current = localStorage.getItem('token');
+  if (current && current !== rejectedToken) {
+    return current;
+  }
+
+  const refreshToken = localStorage.getItem('refreshToken');
+  if (!refreshToken) {
+    throw new Error('No refresh token');
+  }
+
+  const response = await axios.post<AuthResponse>('/api/auth/refresh', { refreshToken });
+  localStorage.setItem('token', response.data.token);
+  localStorage.setItem('refreshToken', response.data.refreshToken);
+  localStorage.setItem('user', JSON.stringify(response.data.user));
+  return response.data.token;
+};
+
+// Access tokens are short-lived; concurrent 401s share a single refresh call
+let refreshInFlight: Promise<string> | null = null;
+
+const refreshAccessToken = (rejectedToken: string | undefined): Promise<string> => {
+  if (!refreshInFlight) {
+    refreshInFlight = withRefreshLock(() => rotateTokens(rejectedToken)).finally(() => {
+      refreshInFlight = null;
+    });
+  }
+  return refreshInFlight;
+};
+
 // Response interceptor for error handling
 api.interceptors.response.use(
   (response) => response,
-  (error: AxiosError<ApiError>) => {
+  async (error: AxiosError<ApiError>) => {
+    const original = error.config as (InternalAxiosRequestConfig & { _retried?: boolean }) | undefined;
+
+    if (error.response?.status === 401 && original && !original._retried && !NO_REFRESH_ENDPOINTS.includes(original.url ?? '')) {
+      original._retried = true;
+      try {
+        const rejectedToken = String(original.headers.Authorization ?? '').replace(/^Bearer /, '') || undefined;
+        const token = await refreshAccessToken(rejectedToken);
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original);
+      } catch {
+        // Fall through to sign-out
+      }
+    }
+
     if (error.response?.status === 401) {
-      localStorage.removeItem('token');
-      localStorage.removeItem('user');
+      clearSession();
       window.location.href = '/login';
     }
     return Promise.reject(error);
@@ -50,6 +117,10 @@ export const authApi = {
     return response.data;
   },
 
+  logout: async (refreshToken: string): Promise<void> => {
+    await api.post('/auth/logout', { refreshToken });
+  },
+
   getCurrentUser: async () => {
     const response = await api.get('/auth/me');
     return response.data;
@@ -68,8 +139,10 @@ export const competitionApi = {
     return response.data;
   },
 
-  getPublishedCompetitions: async (): Promise<Competition[]> => {
-    const response = await api.get<Competition[]>('/competitions/published');
+  getPublishedCompetitions: async (cursor?: string): Promise<CompetitionPage> => {
+    const response = await api.get<CompetitionPage>('/competitions/published', {
+      params: cursor ? { cursor } : undefined,
+    });
     return response.data;
   },
 
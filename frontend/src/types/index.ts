@@ -21,6 +21,7 @@ export interface User {
 export interface AuthResponse {
   token: string;
   type: string;
+  refreshToken: string;
   user: User;
 }
 
@@ -81,6 +82,12 @@ export interface Competition {
   updatedAt: string;
 }
 
+export interface CompetitionPage {
+  items: Competition[];
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
 export interface CreateCompetitionRequest {
   name: string;
   description: string;